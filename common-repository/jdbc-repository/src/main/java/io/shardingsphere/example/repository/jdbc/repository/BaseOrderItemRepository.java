@@ -18,12 +18,16 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.keygen.EntityKeyGenerator;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
+import io.shardingsphere.example.repository.api.row.OrderItemRowMapper;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -33,6 +37,12 @@ public abstract class BaseOrderItemRepository implements OrderItemRepository {
     
     static final String SQL_DELETE_BY_ITEM_ID = "DELETE FROM t_order_item WHERE order_item_id=?";
     
+    static final String SQL_BATCH_INSERT_T_ORDER_ITEM = "INSERT INTO t_order_item (order_item_id, order_id, user_id, status) VALUES (?, ?, ?, ?)";
+    
+    static final String SQL_DELETE_BY_ITEM_IDS = "DELETE FROM t_order_item WHERE order_item_id IN ";
+    
+    static final String SQL_SELECT_T_ORDER_ITEM_AFTER = "SELECT * FROM t_order_item WHERE order_item_id > ? ORDER BY order_item_id LIMIT ?";
+    
     private static final String SQL_CREATE_T_ORDER_ITEM = "CREATE TABLE IF NOT EXISTS t_order_item "
         + "(order_item_id BIGINT NOT NULL AUTO_INCREMENT, order_id BIGINT NOT NULL, user_id INT NOT NULL, status VARCHAR(50), PRIMARY KEY (order_item_id))";
     
@@ -69,6 +79,27 @@ public abstract class BaseOrderItemRepository implements OrderItemRepository {
         }
     }
     
+    final void insertItems(final PreparedStatement preparedStatement, final Collection<OrderItem> orderItems) throws SQLException {
+        int batchSize = 0;
+        for (OrderItem each : orderItems) {
+            if (0 == each.getOrderItemId()) {
+                each.setOrderItemId(EntityKeyGenerator.generateKey());
+            }
+            preparedStatement.setLong(1, each.getOrderItemId());
+            preparedStatement.setLong(2, each.getOrderId());
+            preparedStatement.setInt(3, each.getUserId());
+            preparedStatement.setString(4, each.getStatus());
+            preparedStatement.addBatch();
+            if (++batchSize == BulkStatements.MAX_BULK_SIZE) {
+                preparedStatement.executeBatch();
+                batchSize = 0;
+            }
+        }
+        if (batchSize > 0) {
+            preparedStatement.executeBatch();
+        }
+    }
+    
     final void deleteById(final PreparedStatement preparedStatement, final Long orderItemId) throws SQLException {
         preparedStatement.setLong(1, orderItemId);
         preparedStatement.executeUpdate();
@@ -77,19 +108,31 @@ public abstract class BaseOrderItemRepository implements OrderItemRepository {
     final List<OrderItem> queryOrderItem(final PreparedStatement preparedStatement) {
         List<OrderItem> result = new LinkedList<>();
         try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            OrderItemRowMapper rowMapper = new OrderItemRowMapper(resultSet);
             while (resultSet.next()) {
-                OrderItem orderItem = new OrderItem();
-                orderItem.setOrderItemId(resultSet.getLong(1));
-                orderItem.setOrderId(resultSet.getLong(2));
-                orderItem.setUserId(resultSet.getInt(3));
-                orderItem.setStatus(resultSet.getString(4));
-                result.add(orderItem);
+                result.add(rowMapper.mapRow(resultSet));
             }
         } catch (final SQLException ignored) {
         }
         return result;
     }
     
+    final List<OrderItem> queryOrderItemAfter(final PreparedStatement preparedStatement, final long lastOrderItemId, final int pageSize) throws SQLException {
+        preparedStatement.setLong(1, lastOrderItemId);
+        preparedStatement.setInt(2, pageSize);
+        return queryOrderItem(preparedStatement);
+    }
+    
+    final void streamOrderItem(final PreparedStatement preparedStatement, final EntityConsumer<OrderItem> consumer) throws SQLException {
+        preparedStatement.setFetchSize(Integer.MIN_VALUE);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            OrderItemRowMapper rowMapper = new OrderItemRowMapper(resultSet);
+            while (resultSet.next()) {
+                consumer.accept(rowMapper.mapRow(resultSet));
+            }
+        }
+    }
+    
     @Override
     public final List<OrderItem> selectAll() {
         return getOrderItems(SQL_SELECT_T_ORDER_ITEM_ALL);
@@ -100,6 +143,19 @@ public abstract class BaseOrderItemRepository implements OrderItemRepository {
         return getOrderItems(SQL_SELECT_T_ORDER_ITEM_RANGE);
     }
     
+    @Override
+    public final void forEach(final EntityConsumer<OrderItem> consumer) {
+        forEachOrderItem(SQL_SELECT_T_ORDER_ITEM_ALL, consumer);
+    }
+    
     public abstract List<OrderItem> getOrderItems(String sql);
     
+    /**
+     * Stream order items of sql with a forward only, read only statement, which MySQL driver streams row by row when fetch size is {@link Integer#MIN_VALUE}.
+     *
+     * @param sql sql
+     * @param consumer consumer
+     */
+    public abstract void forEachOrderItem(String sql, EntityConsumer<OrderItem> consumer);
+    
 }
@@ -18,12 +18,16 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.keygen.EntityKeyGenerator;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderRepository;
+import io.shardingsphere.example.repository.api.row.OrderRowMapper;
 
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -33,6 +37,12 @@ public abstract class BaseOrderRepository implements OrderRepository {
     
     static final String SQL_DELETE_BY_ORDER_ID = "DELETE FROM t_order WHERE order_id=?";
     
+    static final String SQL_BATCH_INSERT_T_ORDER = "INSERT INTO t_order (order_id, user_id, status) VALUES (?, ?, ?)";
+    
+    static final String SQL_DELETE_BY_ORDER_IDS = "DELETE FROM t_order WHERE order_id IN ";
+    
+    static final String SQL_SELECT_T_ORDER_AFTER = "SELECT * FROM t_order WHERE order_id > ? ORDER BY order_id LIMIT ?";
+    
     private static final String SQL_CREATE_T_ORDER = "CREATE TABLE IF NOT EXISTS t_order (order_id BIGINT NOT NULL AUTO_INCREMENT, user_id INT NOT NULL, status VARCHAR(50), PRIMARY KEY (order_id))";
     
     private static final String SQL_DROP_T_ORDER = "DROP TABLE t_order";
@@ -66,6 +76,26 @@ public abstract class BaseOrderRepository implements OrderRepository {
         }
     }
     
+    final void insertOrders(final PreparedStatement preparedStatement, final Collection<Order> orders) throws SQLException {
+        int batchSize = 0;
+        for (Order each : orders) {
+            if (0 == each.getOrderId()) {
+                each.setOrderId(EntityKeyGenerator.generateKey());
+            }
+            preparedStatement.setLong(1, each.getOrderId());
+            preparedStatement.setInt(2, each.getUserId());
+            preparedStatement.setString(3, each.getStatus());
+            preparedStatement.addBatch();
+            if (++batchSize == BulkStatements.MAX_BULK_SIZE) {
+                preparedStatement.executeBatch();
+                batchSize = 0;
+            }
+        }
+        if (batchSize > 0) {
+            preparedStatement.executeBatch();
+        }
+    }
+    
     final void deleteById(final PreparedStatement preparedStatement, final Long orderId) throws SQLException {
         preparedStatement.setLong(1, orderId);
         preparedStatement.executeUpdate();
@@ -74,18 +104,31 @@ public abstract class BaseOrderRepository implements OrderRepository {
     final List<Order> queryOrder(final PreparedStatement preparedStatement) {
         List<Order> result = new LinkedList<>();
         try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            OrderRowMapper rowMapper = new OrderRowMapper(resultSet);
             while (resultSet.next()) {
-                Order order = new Order();
-                order.setOrderId(resultSet.getLong(1));
-                order.setUserId(resultSet.getInt(2));
-                order.setStatus(resultSet.getString(3));
-                result.add(order);
+                result.add(rowMapper.mapRow(resultSet));
             }
         } catch (final SQLException ignored) {
         }
         return result;
     }
     
+    final List<Order> queryOrderAfter(final PreparedStatement preparedStatement, final long lastOrderId, final int pageSize) throws SQLException {
+        preparedStatement.setLong(1, lastOrderId);
+        preparedStatement.setInt(2, pageSize);
+        return queryOrder(preparedStatement);
+    }
+    
+    final void streamOrder(final PreparedStatement preparedStatement, final EntityConsumer<Order> consumer) throws SQLException {
+        preparedStatement.setFetchSize(Integer.MIN_VALUE);
+        try (ResultSet resultSet = preparedStatement.executeQuery()) {
+            OrderRowMapper rowMapper = new OrderRowMapper(resultSet);
+            while (resultSet.next()) {
+                consumer.accept(rowMapper.mapRow(resultSet));
+            }
+        }
+    }
+    
     @Override
     public final List<Order> selectAll() {
         return getOrders(SQL_SELECT_T_ORDER_ALL);
@@ -96,6 +139,19 @@ public abstract class BaseOrderRepository implements OrderRepository {
         return getOrders(SQL_SELECT_T_ORDER_RANGE);
     }
     
+    @Override
+    public final void forEach(final EntityConsumer<Order> consumer) {
+        forEachOrder(SQL_SELECT_T_ORDER_ALL, consumer);
+    }
+    
     public abstract List<Order> getOrders(String sql);
     
+    /**
+     * Stream orders of sql with a forward only, read only statement, which MySQL driver streams row by row when fetch size is {@link Integer#MIN_VALUE}.
+     *
+     * @param sql sql
+     * @param consumer consumer
+     */
+    public abstract void forEachOrder(String sql, EntityConsumer<Order> consumer);
+    
 }
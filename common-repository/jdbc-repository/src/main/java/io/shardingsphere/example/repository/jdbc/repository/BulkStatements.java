@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.jdbc.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Bulk statements shared by JDBC repositories.
+ */
+final class BulkStatements {
+    
+    /**
+     * Max rows of one JDBC batch and max ids of one IN list.
+     */
+    static final int MAX_BULK_SIZE = 1000;
+    
+    private BulkStatements() {
+    }
+    
+    /**
+     * Delete by ids with IN lists, sharding router sends each list only to the shards owning its ids.
+     *
+     * @param connection connection
+     * @param sqlPrefix SQL ends with `IN `
+     * @param ids ids
+     * @throws SQLException SQL exception
+     */
+    static void deleteByIds(final Connection connection, final String sqlPrefix, final Collection<Long> ids) throws SQLException {
+        List<Long> idList = new ArrayList<>(ids);
+        for (int from = 0; from < idList.size(); from += MAX_BULK_SIZE) {
+            List<Long> chunk = idList.subList(from, Math.min(from + MAX_BULK_SIZE, idList.size()));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sqlPrefix + createPlaceholders(chunk.size()))) {
+                int parameterIndex = 1;
+                for (Long each : chunk) {
+                    preparedStatement.setLong(parameterIndex++, each);
+                }
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+    
+    private static String createPlaceholders(final int count) {
+        StringBuilder result = new StringBuilder(count * 3 + 1).append('(');
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                result.append(", ");
+            }
+            result.append('?');
+        }
+        return result.append(')').toString();
+    }
+}
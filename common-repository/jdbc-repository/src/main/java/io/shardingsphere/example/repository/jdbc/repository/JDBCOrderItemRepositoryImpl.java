@@ -18,13 +18,16 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -82,6 +85,23 @@ public final class JDBCOrderItemRepositoryImpl extends BaseOrderItemRepository i
         }
     }
     
+    @Override
+    public void insertAll(final Collection<OrderItem> orderItems) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQL_BATCH_INSERT_T_ORDER_ITEM)) {
+            insertItems(preparedStatement, orderItems);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderItemIds) {
+        try (Connection connection = dataSource.getConnection()) {
+            BulkStatements.deleteByIds(connection, SQL_DELETE_BY_ITEM_IDS, orderItemIds);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     @Override
     public List<OrderItem> getOrderItems(final String sql) {
         List<OrderItem> result = new LinkedList<>();
@@ -92,4 +112,24 @@ public final class JDBCOrderItemRepositoryImpl extends BaseOrderItemRepository i
         }
         return result;
     }
+    
+    @Override
+    public List<OrderItem> selectAfter(final long lastOrderItemId, final int pageSize) {
+        List<OrderItem> result = new LinkedList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_T_ORDER_ITEM_AFTER)) {
+            result = queryOrderItemAfter(preparedStatement, lastOrderItemId, pageSize);
+        } catch (final SQLException ignored) {
+        }
+        return result;
+    }
+    
+    @Override
+    public void forEachOrderItem(final String sql, final EntityConsumer<OrderItem> consumer) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            streamOrderItem(preparedStatement, consumer);
+        } catch (final SQLException ignored) {
+        }
+    }
 }
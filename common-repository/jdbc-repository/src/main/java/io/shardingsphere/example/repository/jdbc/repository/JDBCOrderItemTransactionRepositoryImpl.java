@@ -18,25 +18,37 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
 public final class JDBCOrderItemTransactionRepositoryImpl extends BaseOrderItemRepository implements OrderItemRepository {
     
+    private final PreparedStatementCache statementCache;
+    
     private Connection connection;
     
     public JDBCOrderItemTransactionRepositoryImpl(final Connection connection) {
         this.connection = connection;
+        statementCache = new PreparedStatementCache(connection);
     }
     
+    /**
+     * Set connection, statements prepared on previous connection are closed.
+     *
+     * @param connection connection
+     */
     public void setConnection(final Connection connection) {
         this.connection = connection;
+        statementCache.reset(connection);
     }
     
     @Override
@@ -65,17 +77,36 @@ public final class JDBCOrderItemTransactionRepositoryImpl extends BaseOrderItemR
     
     @Override
     public Long insert(final OrderItem orderItem) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_INSERT_T_ORDER_ITEM, Statement.RETURN_GENERATED_KEYS)) {
-            insertItem(preparedStatement, orderItem);
+        try {
+            insertItem(statementCache.get(SQL_INSERT_T_ORDER_ITEM, Statement.RETURN_GENERATED_KEYS), orderItem);
         } catch (final SQLException ignored) {
+            statementCache.evict(SQL_INSERT_T_ORDER_ITEM, Statement.RETURN_GENERATED_KEYS);
         }
         return orderItem.getOrderItemId();
     }
     
     @Override
     public void delete(final Long orderItemId) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_DELETE_BY_ITEM_ID)) {
-            deleteById(preparedStatement, orderItemId);
+        try {
+            deleteById(statementCache.get(SQL_DELETE_BY_ITEM_ID), orderItemId);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_DELETE_BY_ITEM_ID);
+        }
+    }
+    
+    @Override
+    public void insertAll(final Collection<OrderItem> orderItems) {
+        try {
+            insertItems(statementCache.get(SQL_BATCH_INSERT_T_ORDER_ITEM), orderItems);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_BATCH_INSERT_T_ORDER_ITEM);
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderItemIds) {
+        try {
+            BulkStatements.deleteByIds(connection, SQL_DELETE_BY_ITEM_IDS, orderItemIds);
         } catch (final SQLException ignored) {
         }
     }
@@ -89,4 +120,23 @@ public final class JDBCOrderItemTransactionRepositoryImpl extends BaseOrderItemR
         }
         return result;
     }
+    
+    @Override
+    public List<OrderItem> selectAfter(final long lastOrderItemId, final int pageSize) {
+        List<OrderItem> result = new LinkedList<>();
+        try {
+            result = queryOrderItemAfter(statementCache.get(SQL_SELECT_T_ORDER_ITEM_AFTER), lastOrderItemId, pageSize);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_SELECT_T_ORDER_ITEM_AFTER);
+        }
+        return result;
+    }
+    
+    @Override
+    public void forEachOrderItem(final String sql, final EntityConsumer<OrderItem> consumer) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            streamOrderItem(preparedStatement, consumer);
+        } catch (final SQLException ignored) {
+        }
+    }
 }
@@ -18,13 +18,16 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderRepository;
 
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
@@ -82,6 +85,23 @@ public final class JDBCOrderRepositoryImpl extends BaseOrderRepository implement
         }
     }
     
+    @Override
+    public void insertAll(final Collection<Order> orders) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQL_BATCH_INSERT_T_ORDER)) {
+            insertOrders(preparedStatement, orders);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderIds) {
+        try (Connection connection = dataSource.getConnection()) {
+            BulkStatements.deleteByIds(connection, SQL_DELETE_BY_ORDER_IDS, orderIds);
+        } catch (final SQLException ignored) {
+        }
+    }
+    
     @Override
     public List<Order> getOrders(final String sql) {
         List<Order> result = new LinkedList<>();
@@ -92,4 +112,24 @@ public final class JDBCOrderRepositoryImpl extends BaseOrderRepository implement
         }
         return result;
     }
+    
+    @Override
+    public List<Order> selectAfter(final long lastOrderId, final int pageSize) {
+        List<Order> result = new LinkedList<>();
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQL_SELECT_T_ORDER_AFTER)) {
+            result = queryOrderAfter(preparedStatement, lastOrderId, pageSize);
+        } catch (final SQLException ignored) {
+        }
+        return result;
+    }
+    
+    @Override
+    public void forEachOrder(final String sql, final EntityConsumer<Order> consumer) {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            streamOrder(preparedStatement, consumer);
+        } catch (final SQLException ignored) {
+        }
+    }
 }
@@ -18,25 +18,37 @@
 package io.shardingsphere.example.repository.jdbc.repository;
 
 import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderRepository;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.Collection;
 import java.util.LinkedList;
 import java.util.List;
 
 public final class JDBCOrderTransactionRepositoryImpl extends BaseOrderRepository implements OrderRepository {
     
+    private final PreparedStatementCache statementCache;
+    
     private Connection connection;
     
     public JDBCOrderTransactionRepositoryImpl(final Connection connection) {
         this.connection = connection;
+        statementCache = new PreparedStatementCache(connection);
     }
     
+    /**
+     * Set connection, statements prepared on previous connection are closed.
+     *
+     * @param connection connection
+     */
     public void setConnection(final Connection connection) {
         this.connection = connection;
+        statementCache.reset(connection);
     }
     
     @Override
@@ -65,17 +77,36 @@ public final class JDBCOrderTransactionRepositoryImpl extends BaseOrderRepositor
     
     @Override
     public Long insert(final Order order) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_INSERT_T_ORDER, Statement.RETURN_GENERATED_KEYS)) {
-            insertOrder(preparedStatement, order);
+        try {
+            insertOrder(statementCache.get(SQL_INSERT_T_ORDER, Statement.RETURN_GENERATED_KEYS), order);
         } catch (final SQLException ignored) {
+            statementCache.evict(SQL_INSERT_T_ORDER, Statement.RETURN_GENERATED_KEYS);
         }
         return order.getOrderId();
     }
     
     @Override
     public void delete(final Long id) {
-        try (PreparedStatement preparedStatement = connection.prepareStatement(SQL_DELETE_BY_ORDER_ID)) {
-            deleteById(preparedStatement, id);
+        try {
+            deleteById(statementCache.get(SQL_DELETE_BY_ORDER_ID), id);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_DELETE_BY_ORDER_ID);
+        }
+    }
+    
+    @Override
+    public void insertAll(final Collection<Order> orders) {
+        try {
+            insertOrders(statementCache.get(SQL_BATCH_INSERT_T_ORDER), orders);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_BATCH_INSERT_T_ORDER);
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderIds) {
+        try {
+            BulkStatements.deleteByIds(connection, SQL_DELETE_BY_ORDER_IDS, orderIds);
         } catch (final SQLException ignored) {
         }
     }
@@ -89,4 +120,23 @@ public final class JDBCOrderTransactionRepositoryImpl extends BaseOrderRepositor
         }
         return result;
     }
+    
+    @Override
+    public List<Order> selectAfter(final long lastOrderId, final int pageSize) {
+        List<Order> result = new LinkedList<>();
+        try {
+            result = queryOrderAfter(statementCache.get(SQL_SELECT_T_ORDER_AFTER), lastOrderId, pageSize);
+        } catch (final SQLException ignored) {
+            statementCache.evict(SQL_SELECT_T_ORDER_AFTER);
+        }
+        return result;
+    }
+    
+    @Override
+    public void forEachOrder(final String sql, final EntityConsumer<Order> consumer) {
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            streamOrder(preparedStatement, consumer);
+        } catch (final SQLException ignored) {
+        }
+    }
 }
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.jdbc.repository;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Prepared statements of one connection keyed by SQL and auto generated keys flag, so repeated statements in a transaction are prepared once.
+ *
+ * <p>Only the logical prepare is saved, sharding statement still routes and creates physical statements on every execute.
+ * With ShardingSphere 4.0.0-RC2 this is a no-op for performance of sharding data sources, statements are reused across calls only,
+ * saving prepare round trips needs a plain data source with server side prepared statements.
+ * Cache is not bounded, so only fixed SQL of repository should be cached, not SQL passed by callers.
+ * Not thread safe, same as the connection it belongs to.</p>
+ */
+final class PreparedStatementCache {
+    
+    private final Map<StatementKey, PreparedStatement> statements = new HashMap<>();
+    
+    private Connection connection;
+    
+    PreparedStatementCache(final Connection connection) {
+        this.connection = connection;
+    }
+    
+    PreparedStatement get(final String sql) throws SQLException {
+        return get(sql, Statement.NO_GENERATED_KEYS);
+    }
+    
+    PreparedStatement get(final String sql, final int autoGeneratedKeys) throws SQLException {
+        StatementKey key = new StatementKey(sql, autoGeneratedKeys);
+        PreparedStatement result = statements.get(key);
+        if (null == result || result.isClosed()) {
+            result = connection.prepareStatement(sql, autoGeneratedKeys);
+            statements.put(key, result);
+        }
+        return result;
+    }
+    
+    void evict(final String sql) {
+        evict(sql, Statement.NO_GENERATED_KEYS);
+    }
+    
+    void evict(final String sql, final int autoGeneratedKeys) {
+        close(statements.remove(new StatementKey(sql, autoGeneratedKeys)));
+    }
+    
+    void reset(final Connection connection) {
+        for (PreparedStatement each : statements.values()) {
+            close(each);
+        }
+        statements.clear();
+        this.connection = connection;
+    }
+    
+    private void close(final PreparedStatement preparedStatement) {
+        if (null == preparedStatement) {
+            return;
+        }
+        try {
+            preparedStatement.close();
+        } catch (final SQLException ignored) {
+        }
+    }
+    
+    private static final class StatementKey {
+        
+        private final String sql;
+        
+        private final int autoGeneratedKeys;
+        
+        StatementKey(final String sql, final int autoGeneratedKeys) {
+            this.sql = sql;
+            this.autoGeneratedKeys = autoGeneratedKeys;
+        }
+        
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof StatementKey)) {
+                return false;
+            }
+            StatementKey other = (StatementKey) obj;
+            return autoGeneratedKeys == other.autoGeneratedKeys && sql.equals(other.sql);
+        }
+        
+        @Override
+        public int hashCode() {
+            return 31 * sql.hashCode() + autoGeneratedKeys;
+        }
+    }
+}
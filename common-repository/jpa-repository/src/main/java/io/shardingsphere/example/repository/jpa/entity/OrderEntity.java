@@ -18,11 +18,11 @@
 package io.shardingsphere.example.repository.jpa.entity;
 
 import io.shardingsphere.example.repository.api.entity.Order;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
@@ -32,7 +32,8 @@ public final class OrderEntity extends Order {
     
     @Id
     @Column(name = "order_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdentifierGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdentifierGenerator.NAME, strategy = "io.shardingsphere.example.repository.jpa.entity.SnowflakeIdentifierGenerator")
     @Override
     public long getOrderId() {
         return super.getOrderId();
@@ -18,11 +18,11 @@
 package io.shardingsphere.example.repository.jpa.entity;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import org.hibernate.annotations.GenericGenerator;
 
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.GeneratedValue;
-import javax.persistence.GenerationType;
 import javax.persistence.Id;
 import javax.persistence.Table;
 
@@ -32,7 +32,8 @@ public final class OrderItemEntity extends OrderItem {
     
     @Id
     @Column(name = "order_item_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(generator = SnowflakeIdentifierGenerator.NAME)
+    @GenericGenerator(name = SnowflakeIdentifierGenerator.NAME, strategy = "io.shardingsphere.example.repository.jpa.entity.SnowflakeIdentifierGenerator")
     @Override
     public long getOrderItemId() {
         return super.getOrderItemId();
@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.jpa.entity;
+
+import io.shardingsphere.example.repository.api.keygen.EntityKeyGenerator;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.id.IdentifierGenerator;
+
+import java.io.Serializable;
+
+/**
+ * Snowflake identifier generator.
+ *
+ * <p>Keys are generated before insert, so Hibernate can batch inserts which it never does for identity columns.</p>
+ */
+public final class SnowflakeIdentifierGenerator implements IdentifierGenerator {
+    
+    public static final String NAME = "snowflake";
+    
+    @Override
+    public Serializable generate(final SessionImplementor session, final Object object) {
+        return EntityKeyGenerator.generateKey();
+    }
+}
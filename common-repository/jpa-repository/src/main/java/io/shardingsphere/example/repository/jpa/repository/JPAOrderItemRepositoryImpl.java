@@ -18,19 +18,27 @@
 package io.shardingsphere.example.repository.jpa.repository;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @Transactional
 public class JPAOrderItemRepositoryImpl implements OrderItemRepository {
     
+    private static final int MAX_BULK_SIZE = 1000;
+    
     @PersistenceContext
     private EntityManager entityManager;
     
@@ -62,6 +70,33 @@ public class JPAOrderItemRepositoryImpl implements OrderItemRepository {
         query.executeUpdate();
     }
     
+    /**
+     * Persist entities, inserts are flushed as JDBC batches when `hibernate.jdbc.batch_size` is configured.
+     *
+     * @param orderItems order items
+     */
+    @Override
+    public void insertAll(final Collection<OrderItem> orderItems) {
+        int count = 0;
+        for (OrderItem each : orderItems) {
+            entityManager.persist(each);
+            if (0 == ++count % MAX_BULK_SIZE) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderItemIds) {
+        List<Long> idList = new ArrayList<>(orderItemIds);
+        for (int from = 0; from < idList.size(); from += MAX_BULK_SIZE) {
+            Query query = entityManager.createQuery("DELETE FROM OrderItemEntity i WHERE i.orderItemId IN (:orderItemIds) AND i.userId = 51");
+            query.setParameter("orderItemIds", idList.subList(from, Math.min(from + MAX_BULK_SIZE, idList.size())));
+            query.executeUpdate();
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public List<OrderItem> selectAll() {
@@ -73,4 +108,33 @@ public class JPAOrderItemRepositoryImpl implements OrderItemRepository {
     public List<OrderItem> selectRange() {
         return (List<OrderItem>) entityManager.createQuery("SELECT i FROM OrderEntity o, OrderItemEntity i WHERE o.orderId = i.orderId AND o.userId BETWEEN 1 AND 5").getResultList();
     }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<OrderItem> selectAfter(final long lastOrderItemId, final int pageSize) {
+        Query query = entityManager.createQuery("SELECT i FROM OrderItemEntity i WHERE i.orderItemId > ?1 ORDER BY i.orderItemId");
+        query.setParameter(1, lastOrderItemId);
+        query.setMaxResults(pageSize);
+        return (List<OrderItem>) query.getResultList();
+    }
+    
+    /**
+     * Scroll order items with MySQL streaming fetch size, each order item is evicted after consumed to keep persistence context small.
+     *
+     * @param consumer consumer
+     */
+    @Override
+    public void forEach(final EntityConsumer<OrderItem> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        ScrollableResults results = session.createQuery("SELECT i FROM OrderEntity o, OrderItemEntity i WHERE o.orderId = i.orderId").setFetchSize(Integer.MIN_VALUE).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            while (results.next()) {
+                OrderItem orderItem = (OrderItem) results.get(0);
+                consumer.accept(orderItem);
+                session.evict(orderItem);
+            }
+        } finally {
+            results.close();
+        }
+    }
 }
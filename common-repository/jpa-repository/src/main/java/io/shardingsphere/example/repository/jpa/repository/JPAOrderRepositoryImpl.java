@@ -18,19 +18,27 @@
 package io.shardingsphere.example.repository.jpa.repository;
 
 import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderRepository;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
 import org.springframework.stereotype.Repository;
 
 import javax.persistence.EntityManager;
 import javax.persistence.PersistenceContext;
 import javax.persistence.Query;
 import javax.transaction.Transactional;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 @Transactional
 public class JPAOrderRepositoryImpl implements OrderRepository {
     
+    private static final int MAX_BULK_SIZE = 1000;
+    
     @PersistenceContext
     private EntityManager entityManager;
     
@@ -62,6 +70,33 @@ public class JPAOrderRepositoryImpl implements OrderRepository {
         query.executeUpdate();
     }
     
+    /**
+     * Persist entities, inserts are flushed as JDBC batches when `hibernate.jdbc.batch_size` is configured.
+     *
+     * @param orders orders
+     */
+    @Override
+    public void insertAll(final Collection<Order> orders) {
+        int count = 0;
+        for (Order each : orders) {
+            entityManager.persist(each);
+            if (0 == ++count % MAX_BULK_SIZE) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+    }
+    
+    @Override
+    public void deleteAll(final Collection<Long> orderIds) {
+        List<Long> idList = new ArrayList<>(orderIds);
+        for (int from = 0; from < idList.size(); from += MAX_BULK_SIZE) {
+            Query query = entityManager.createQuery("DELETE FROM OrderEntity o WHERE o.orderId IN (:orderIds)");
+            query.setParameter("orderIds", idList.subList(from, Math.min(from + MAX_BULK_SIZE, idList.size())));
+            query.executeUpdate();
+        }
+    }
+    
     @SuppressWarnings("unchecked")
     @Override
     public List<Order> selectAll() {
@@ -73,4 +108,33 @@ public class JPAOrderRepositoryImpl implements OrderRepository {
     public List<Order> selectRange() {
         return (List<Order>) entityManager.createQuery("SELECT o FROM OrderEntity o WHERE orderId BETWEEN 200000000000000000 AND 400000000000000000").getResultList();
     }
+    
+    @SuppressWarnings("unchecked")
+    @Override
+    public List<Order> selectAfter(final long lastOrderId, final int pageSize) {
+        Query query = entityManager.createQuery("SELECT o FROM OrderEntity o WHERE o.orderId > ?1 ORDER BY o.orderId");
+        query.setParameter(1, lastOrderId);
+        query.setMaxResults(pageSize);
+        return (List<Order>) query.getResultList();
+    }
+    
+    /**
+     * Scroll orders with MySQL streaming fetch size, each order is evicted after consumed to keep persistence context small.
+     *
+     * @param consumer consumer
+     */
+    @Override
+    public void forEach(final EntityConsumer<Order> consumer) {
+        Session session = entityManager.unwrap(Session.class);
+        ScrollableResults results = session.createQuery("SELECT o FROM OrderEntity o").setFetchSize(Integer.MIN_VALUE).setReadOnly(true).scroll(ScrollMode.FORWARD_ONLY);
+        try {
+            while (results.next()) {
+                Order order = (Order) results.get(0);
+                consumer.accept(order);
+                session.evict(order);
+            }
+        } finally {
+            results.close();
+        }
+    }
 }
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.repository.mybatis.mapper;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Statements shared by MyBatis mappers, same as {@code CommonRepository} without {@code forEach}, which mapper proxy can not bind.
+ *
+ * <p>Not in the package scanned for mappers, so it is not registered as a mapper itself.</p>
+ *
+ * @param <T> type of entity
+ */
+public interface CommonMapper<T> {
+    
+    void createTableIfNotExists();
+    
+    void dropTable();
+    
+    void truncateTable();
+    
+    Long insert(T entity);
+    
+    void delete(Long id);
+    
+    void insertAll(Collection<T> entities);
+    
+    void deleteAll(Collection<Long> ids);
+    
+    List<T> selectAll();
+    
+    List<T> selectRange();
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.mybatis.plugin;
+
+import io.shardingsphere.example.repository.api.row.RowMapper;
+import io.shardingsphere.example.repository.api.row.RowMappers;
+import org.apache.ibatis.executor.result.DefaultResultContext;
+import org.apache.ibatis.executor.statement.StatementHandler;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Plugin;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.reflection.SystemMetaObject;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Map results of entities which have {@link RowMapper} without MyBatis reflection.
+ *
+ * <p>Only statements listed by property {@code statementIds} (comma separated) are mapped by row mapper, because row mapper ignores
+ * column mappings and type handlers of result map. Listed statements must select columns named as row mapper expects.
+ * Statements with nested result maps, multiple result sets or row bounds are left to MyBatis even if listed.</p>
+ */
+@Intercepts(@Signature(type = StatementHandler.class, method = "query", args = {Statement.class, ResultHandler.class}))
+public final class RowMapperInterceptor implements Interceptor {
+    
+    public static final String STATEMENT_IDS_KEY = "statementIds";
+    
+    private final Set<String> statementIds = new HashSet<>();
+    
+    @Override
+    public Object intercept(final Invocation invocation) throws Throwable {
+        Statement statement = (Statement) invocation.getArgs()[0];
+        Class<?> entityType = getEntityType(invocation.getTarget());
+        if (null == entityType || !(statement instanceof PreparedStatement)) {
+            return invocation.proceed();
+        }
+        ((PreparedStatement) statement).execute();
+        @SuppressWarnings("unchecked")
+        ResultHandler<Object> resultHandler = (ResultHandler<Object>) invocation.getArgs()[1];
+        try (ResultSet resultSet = statement.getResultSet()) {
+            return handleResultSet(resultSet, RowMappers.newRowMapper(entityType, resultSet), resultHandler);
+        }
+    }
+    
+    private Class<?> getEntityType(final Object statementHandler) {
+        MetaObject metaObject = SystemMetaObject.forObject(statementHandler);
+        if (!metaObject.hasGetter("delegate.mappedStatement")) {
+            return null;
+        }
+        MappedStatement mappedStatement = (MappedStatement) metaObject.getValue("delegate.mappedStatement");
+        if (!statementIds.contains(mappedStatement.getId()) || null != mappedStatement.getResultSets() || 1 != mappedStatement.getResultMaps().size() || RowBounds.DEFAULT != metaObject.getValue("delegate.rowBounds")) {
+            return null;
+        }
+        ResultMap resultMap = mappedStatement.getResultMaps().get(0);
+        return resultMap.hasNestedResultMaps() || !RowMappers.isSupported(resultMap.getType()) ? null : resultMap.getType();
+    }
+    
+    private List<Object> handleResultSet(final ResultSet resultSet, final RowMapper<?> rowMapper, final ResultHandler<Object> resultHandler) throws Exception {
+        if (null == resultHandler) {
+            List<Object> result = new ArrayList<>();
+            while (resultSet.next()) {
+                result.add(rowMapper.mapRow(resultSet));
+            }
+            return result;
+        }
+        DefaultResultContext<Object> resultContext = new DefaultResultContext<>();
+        while (!resultContext.isStopped() && resultSet.next()) {
+            resultContext.nextResultObject(rowMapper.mapRow(resultSet));
+            resultHandler.handleResult(resultContext);
+        }
+        return Collections.emptyList();
+    }
+    
+    @Override
+    public Object plugin(final Object target) {
+        return target instanceof StatementHandler ? Plugin.wrap(target, this) : target;
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        statementIds.clear();
+        for (String each : properties.getProperty(STATEMENT_IDS_KEY, "").split(",")) {
+            if (!each.trim().isEmpty()) {
+                statementIds.add(each.trim());
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.mybatis.plugin;
+
+import io.shardingsphere.example.repository.mybatis.repository.MybatisOrderItemRepository;
+import io.shardingsphere.example.repository.mybatis.repository.MybatisOrderRepository;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * Add {@link RowMapperInterceptor} to every SQL session factory, no matter it is configured by XML or by Spring Boot.
+ *
+ * <p>Only select statements of order and order item mappers are listed, whose {@code baseResultMap} maps columns by name without type handlers.</p>
+ */
+@Component
+public final class RowMapperInterceptorRegistrar implements BeanPostProcessor {
+    
+    private static final String[] ORDER_STATEMENTS = {"selectAll", "streamAll", "selectAfter", "selectPage", "selectRange"};
+    
+    private static final String[] ORDER_ITEM_STATEMENTS = {"selectAll", "streamAll", "selectAfter", "selectRange"};
+    
+    @Override
+    public Object postProcessBeforeInitialization(final Object bean, final String beanName) {
+        return bean;
+    }
+    
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof SqlSessionFactory) {
+            addInterceptor(((SqlSessionFactory) bean).getConfiguration());
+        }
+        return bean;
+    }
+    
+    private void addInterceptor(final Configuration configuration) {
+        for (Interceptor each : configuration.getInterceptors()) {
+            if (each instanceof RowMapperInterceptor) {
+                return;
+            }
+        }
+        RowMapperInterceptor interceptor = new RowMapperInterceptor();
+        interceptor.setProperties(createProperties());
+        configuration.addInterceptor(interceptor);
+    }
+    
+    private Properties createProperties() {
+        StringBuilder statementIds = new StringBuilder();
+        appendStatementIds(statementIds, MybatisOrderRepository.class, ORDER_STATEMENTS);
+        appendStatementIds(statementIds, MybatisOrderItemRepository.class, ORDER_ITEM_STATEMENTS);
+        Properties result = new Properties();
+        result.setProperty(RowMapperInterceptor.STATEMENT_IDS_KEY, statementIds.toString());
+        return result;
+    }
+    
+    private void appendStatementIds(final StringBuilder statementIds, final Class<?> mapperType, final String[] statements) {
+        for (String each : statements) {
+            statementIds.append(mapperType.getName()).append('.').append(each).append(',');
+        }
+    }
+}
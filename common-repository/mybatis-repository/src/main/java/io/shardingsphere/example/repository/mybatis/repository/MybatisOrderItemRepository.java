@@ -17,9 +17,32 @@
 
 package io.shardingsphere.example.repository.mybatis.repository;
 
-import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
+import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.mybatis.mapper.CommonMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.util.List;
+
+/**
+ * Mapper of {@code OrderItemMapper.xml}, {@code OrderItemRepository} is implemented by {@link StreamingMybatisOrderItemRepository} on top of it.
+ */
 @Mapper
-public interface MybatisOrderItemRepository extends OrderItemRepository {
+public interface MybatisOrderItemRepository extends CommonMapper<OrderItem> {
+    
+    /**
+     * Select page of order items whose order item id is greater than last order item id, in order of order item id.
+     *
+     * @param lastOrderItemId last order item id of previous page, 0 for first page
+     * @param pageSize page size
+     * @return order items of page
+     */
+    List<OrderItem> selectAfter(long lastOrderItemId, int pageSize);
+    
+    /**
+     * Stream same rows as {@link #selectAll()} to result handler.
+     *
+     * @param resultHandler result handler
+     */
+    void streamAll(ResultHandler<OrderItem> resultHandler);
 }
@@ -17,9 +17,42 @@
 
 package io.shardingsphere.example.repository.mybatis.repository;
 
-import io.shardingsphere.example.repository.api.repository.OrderRepository;
+import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.mybatis.mapper.CommonMapper;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import java.util.List;
+
+/**
+ * Mapper of {@code OrderMapper.xml}, {@code OrderRepository} is implemented by {@link StreamingMybatisOrderRepository} on top of it.
+ */
 @Mapper
-public interface MybatisOrderRepository extends OrderRepository {
+public interface MybatisOrderRepository extends CommonMapper<Order> {
+    
+    /**
+     * Select page of orders whose order id is greater than last order id, in order of order id.
+     *
+     * @param lastOrderId last order id of previous page, 0 for first page
+     * @param pageSize page size
+     * @return orders of page
+     */
+    List<Order> selectAfter(long lastOrderId, int pageSize);
+    
+    /**
+     * Stream same rows as {@link #selectAll()} to result handler.
+     *
+     * @param resultHandler result handler
+     */
+    void streamAll(ResultHandler<Order> resultHandler);
+    
+    /**
+     * Select page of orders by {@code LIMIT offset, n}, only to compare with {@link #selectAfter(long, int)}.
+     *
+     * @param offset offset of first order
+     * @param pageSize page size
+     * @return orders of page
+     */
+    List<Order> selectPage(@Param("offset") long offset, @Param("pageSize") int pageSize);
 }
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.mybatis.repository;
+
+import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.keygen.EntityKeyGenerator;
+import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
+import io.shardingsphere.example.repository.mybatis.mapper.CommonMapper;
+import org.apache.ibatis.session.ResultHandler;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+
+import javax.annotation.Resource;
+import java.util.List;
+
+/**
+ * Order item repository backed by {@link MybatisOrderItemRepository}, injected wherever {@link OrderItemRepository} is required.
+ */
+@Repository("orderItemRepository")
+@Primary
+public class StreamingMybatisOrderItemRepository extends StreamingMybatisRepository<OrderItem> implements OrderItemRepository {
+    
+    @Resource
+    private MybatisOrderItemRepository mybatisOrderItemRepository;
+    
+    @Override
+    protected CommonMapper<OrderItem> getMapper() {
+        return mybatisOrderItemRepository;
+    }
+    
+    @Override
+    public List<OrderItem> selectAfter(final long lastOrderItemId, final int pageSize) {
+        return mybatisOrderItemRepository.selectAfter(lastOrderItemId, pageSize);
+    }
+    
+    @Override
+    protected void streamAll(final ResultHandler<OrderItem> resultHandler) {
+        mybatisOrderItemRepository.streamAll(resultHandler);
+    }
+    
+    @Override
+    protected void assignKey(final OrderItem entity) {
+        if (0 == entity.getOrderItemId()) {
+            entity.setOrderItemId(EntityKeyGenerator.generateKey());
+        }
+    }
+}
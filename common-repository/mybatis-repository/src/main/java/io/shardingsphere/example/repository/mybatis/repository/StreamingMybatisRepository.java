@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.mybatis.repository;
+
+import io.shardingsphere.example.repository.api.keygen.EntityKeyGenerator;
+import io.shardingsphere.example.repository.api.repository.CommonRepository;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
+import io.shardingsphere.example.repository.mybatis.mapper.CommonMapper;
+import org.apache.ibatis.session.ResultContext;
+import org.apache.ibatis.session.ResultHandler;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository delegates to MyBatis mapper, and implements {@link #forEach(EntityConsumer)} with mapper's streaming select.
+ *
+ * <p>Mapper proxy can not bind {@code forEach}, because MyBatis only passes rows to parameters of type {@link ResultHandler}.</p>
+ *
+ * <p>Keys of {@link #insertAll(Collection)} are assigned by {@link EntityKeyGenerator} before insert, same as JDBC repositories,
+ * because generated keys of multi-row insert through Sharding-Proxy are computed by driver as LAST_INSERT_ID + i.</p>
+ *
+ * @param <T> type of entity
+ */
+public abstract class StreamingMybatisRepository<T> implements CommonRepository<T> {
+    
+    @Override
+    public final void createTableIfNotExists() {
+        getMapper().createTableIfNotExists();
+    }
+    
+    @Override
+    public final void dropTable() {
+        getMapper().dropTable();
+    }
+    
+    @Override
+    public final void truncateTable() {
+        getMapper().truncateTable();
+    }
+    
+    @Override
+    public final Long insert(final T entity) {
+        return getMapper().insert(entity);
+    }
+    
+    @Override
+    public final void delete(final Long id) {
+        getMapper().delete(id);
+    }
+    
+    @Override
+    public final void insertAll(final Collection<T> entities) {
+        for (T each : entities) {
+            assignKey(each);
+        }
+        getMapper().insertAll(entities);
+    }
+    
+    @Override
+    public final void deleteAll(final Collection<Long> ids) {
+        getMapper().deleteAll(ids);
+    }
+    
+    @Override
+    public final List<T> selectAll() {
+        return getMapper().selectAll();
+    }
+    
+    @Override
+    public final List<T> selectRange() {
+        return getMapper().selectRange();
+    }
+    
+    @Override
+    public final void forEach(final EntityConsumer<T> consumer) {
+        streamAll(new ResultHandler<T>() {
+            
+            @Override
+            public void handleResult(final ResultContext<? extends T> resultContext) {
+                consumer.accept(resultContext.getResultObject());
+            }
+        });
+    }
+    
+    protected abstract CommonMapper<T> getMapper();
+    
+    protected abstract void streamAll(ResultHandler<T> resultHandler);
+    
+    /**
+     * Assign key by {@link EntityKeyGenerator} if entity has no key.
+     *
+     * @param entity entity
+     */
+    protected abstract void assignKey(T entity);
+}
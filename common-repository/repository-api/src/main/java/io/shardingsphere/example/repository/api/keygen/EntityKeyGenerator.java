@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.keygen;
+
+import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenerator;
+
+import java.util.Properties;
+
+/**
+ * Generate snowflake keys on client side, for bulk writes which can not read generated keys back per row.
+ *
+ * <p>
+ * Worker id of sharding rule's SNOWFLAKE key generator is 0 by default, and rows inserted one by one still take keys from it,
+ * so worker id of this generator is system property {@code example.entity-key-generator.worker-id}, 2 by default.
+ * </p>
+ */
+public final class EntityKeyGenerator {
+    
+    private static final String WORKER_ID_KEY = "example.entity-key-generator.worker-id";
+    
+    private static final String DEFAULT_WORKER_ID = "2";
+    
+    private static final SnowflakeShardingKeyGenerator KEY_GENERATOR = createKeyGenerator();
+    
+    private EntityKeyGenerator() {
+    }
+    
+    private static SnowflakeShardingKeyGenerator createKeyGenerator() {
+        SnowflakeShardingKeyGenerator result = new SnowflakeShardingKeyGenerator();
+        Properties properties = new Properties();
+        properties.setProperty("worker.id", System.getProperty(WORKER_ID_KEY, DEFAULT_WORKER_ID));
+        result.setProperties(properties);
+        return result;
+    }
+    
+    /**
+     * Generate key.
+     *
+     * @return key
+     */
+    public static long generateKey() {
+        return ((Number) KEY_GENERATOR.generateKey()).longValue();
+    }
+}
@@ -17,6 +17,7 @@
 
 package io.shardingsphere.example.repository.api.repository;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommonRepository<T> {
@@ -31,7 +32,33 @@ public interface CommonRepository<T> {
     
     void delete(Long id);
     
+    /**
+     * Insert entities in bulk, keys of entities without key are assigned by repository.
+     *
+     * @param entities entities
+     */
+    void insertAll(Collection<T> entities);
+    
+    /**
+     * Delete in bulk, same as {@link #delete(Long)} for each id.
+     *
+     * @param ids ids
+     */
+    void deleteAll(Collection<Long> ids);
+    
     List<T> selectAll();
     
     List<T> selectRange();
+    
+    /**
+     * Stream all entities to consumer, same rows as {@link #selectAll()} without holding them in memory.
+     *
+     * <p>Consumer is called while result set is open, so it must not access database with the same connection.</p>
+     *
+     * <p>Through Sharding-JDBC rows are streamed only if every data source is routed to at most `max.connections.size.per.query` tables, default 1.
+     * Otherwise, e.g. sharding databases and tables, the connection strictly mode loads result sets of every table into memory before merge.</p>
+     *
+     * @param consumer consumer
+     */
+    void forEach(EntityConsumer<T> consumer);
 }
@@ -19,5 +19,16 @@ package io.shardingsphere.example.repository.api.repository;
 
 import io.shardingsphere.example.repository.api.entity.OrderItem;
 
+import java.util.List;
+
 public interface OrderItemRepository extends CommonRepository<OrderItem> {
+    
+    /**
+     * Select page of order items whose order item id is greater than last order item id, in order of order item id.
+     *
+     * @param lastOrderItemId last order item id of previous page, 0 for first page
+     * @param pageSize page size
+     * @return order items of page
+     */
+    List<OrderItem> selectAfter(long lastOrderItemId, int pageSize);
 }
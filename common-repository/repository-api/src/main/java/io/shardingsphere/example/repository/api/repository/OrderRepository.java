@@ -19,5 +19,18 @@ package io.shardingsphere.example.repository.api.repository;
 
 import io.shardingsphere.example.repository.api.entity.Order;
 
+import java.util.List;
+
 public interface OrderRepository extends CommonRepository<Order> {
+    
+    /**
+     * Select page of orders whose order id is greater than last order id, in order of order id.
+     *
+     * <p>Every shard returns at most page size rows however deep the page is, while {@code LIMIT offset, n} makes every shard return offset + n rows to merger.</p>
+     *
+     * @param lastOrderId last order id of previous page, 0 for first page
+     * @param pageSize page size
+     * @return orders of page
+     */
+    List<Order> selectAfter(long lastOrderId, int pageSize);
 }
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.row;
+
+import io.shardingsphere.example.repository.api.entity.OrderItem;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Row mapper of order item, columns are found by label so any column order of {@code t_order_item} is supported.
+ */
+public final class OrderItemRowMapper implements RowMapper<OrderItem> {
+    
+    private final int orderItemIdIndex;
+    
+    private final int orderIdIndex;
+    
+    private final int userIdIndex;
+    
+    private final int statusIndex;
+    
+    public OrderItemRowMapper(final ResultSet resultSet) throws SQLException {
+        orderItemIdIndex = resultSet.findColumn("order_item_id");
+        orderIdIndex = resultSet.findColumn("order_id");
+        userIdIndex = resultSet.findColumn("user_id");
+        statusIndex = resultSet.findColumn("status");
+    }
+    
+    @Override
+    public OrderItem mapRow(final ResultSet resultSet) throws SQLException {
+        OrderItem result = new OrderItem();
+        result.setOrderItemId(resultSet.getLong(orderItemIdIndex));
+        result.setOrderId(resultSet.getLong(orderIdIndex));
+        result.setUserId(resultSet.getInt(userIdIndex));
+        result.setStatus(resultSet.getString(statusIndex));
+        return result;
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.row;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Map current row of result set to entity.
+ *
+ * <p>Row mapper is created for one result set, so column indexes are resolved once instead of for every row.</p>
+ *
+ * @param <T> type of entity
+ */
+public interface RowMapper<T> {
+    
+    /**
+     * Map current row.
+     *
+     * @param resultSet result set positioned at row
+     * @return entity
+     * @throws SQLException SQL exception
+     */
+    T mapRow(ResultSet resultSet) throws SQLException;
+}
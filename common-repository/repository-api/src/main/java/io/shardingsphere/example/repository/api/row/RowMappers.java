@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.row;
+
+import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.entity.OrderItem;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Row mappers of entities, for frameworks which only know entity type of result.
+ */
+public final class RowMappers {
+    
+    private RowMappers() {
+    }
+    
+    /**
+     * Judge whether entity type has row mapper.
+     *
+     * @param entityType entity type
+     * @return has row mapper or not
+     */
+    public static boolean isSupported(final Class<?> entityType) {
+        return Order.class == entityType || OrderItem.class == entityType;
+    }
+    
+    /**
+     * Create row mapper of entity type for result set.
+     *
+     * @param entityType entity type
+     * @param resultSet result set
+     * @return row mapper
+     * @throws SQLException SQL exception
+     */
+    public static RowMapper<?> newRowMapper(final Class<?> entityType, final ResultSet resultSet) throws SQLException {
+        if (Order.class == entityType) {
+            return new OrderRowMapper(resultSet);
+        }
+        if (OrderItem.class == entityType) {
+            return new OrderItemRowMapper(resultSet);
+        }
+        throw new UnsupportedOperationException(String.format("Can not find row mapper of `%s`.", entityType.getName()));
+    }
+}
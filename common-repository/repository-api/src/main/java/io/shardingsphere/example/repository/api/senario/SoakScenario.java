@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.senario;
+
+import io.shardingsphere.example.repository.api.service.CommonService;
+import io.shardingsphere.example.repository.api.soak.SoakOptions;
+import io.shardingsphere.example.repository.api.soak.SoakReport;
+import io.shardingsphere.example.repository.api.soak.SoakRunner;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Soak services one after another, e.g. JDBC, MyBatis and JPA implementations on the same sharding data source.
+ */
+public final class SoakScenario implements Scenario {
+    
+    private final Map<String, CommonService> commonServices;
+    
+    private final SoakRunner soakRunner;
+    
+    private final Map<String, SoakReport> reports = new LinkedHashMap<>();
+    
+    public SoakScenario(final Map<String, CommonService> commonServices, final SoakOptions options) {
+        this.commonServices = commonServices;
+        soakRunner = new SoakRunner(options);
+    }
+    
+    public Map<String, SoakReport> getReports() {
+        return reports;
+    }
+    
+    @Override
+    public void process() {
+        for (Map.Entry<String, CommonService> entry : commonServices.entrySet()) {
+            try {
+                entry.getValue().initEnvironment();
+                SoakReport report = soakRunner.run(entry.getKey(), entry.getValue());
+                reports.put(entry.getKey(), report);
+                System.out.println(report);
+            } catch (final InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                entry.getValue().cleanEnvironment();
+            }
+        }
+    }
+}
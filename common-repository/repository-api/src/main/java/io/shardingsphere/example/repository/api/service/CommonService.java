@@ -37,4 +37,11 @@ public interface CommonService {
     
     MemoryLogService getMemoryLogService();
     
+    /**
+     * Enable or disable printing of processed data to standard output.
+     *
+     * @param printEnabled print enabled or not
+     */
+    void setPrintEnabled(boolean printEnabled);
+    
 }
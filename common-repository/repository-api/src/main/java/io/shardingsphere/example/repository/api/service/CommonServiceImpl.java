@@ -19,6 +19,7 @@ package io.shardingsphere.example.repository.api.service;
 
 import io.shardingsphere.example.repository.api.entity.Order;
 import io.shardingsphere.example.repository.api.entity.OrderItem;
+import io.shardingsphere.example.repository.api.repository.EntityConsumer;
 import io.shardingsphere.example.repository.api.repository.OrderItemRepository;
 import io.shardingsphere.example.repository.api.repository.OrderRepository;
 import io.shardingsphere.example.repository.api.trace.DatabaseAccess;
@@ -32,11 +33,18 @@ public abstract class CommonServiceImpl implements CommonService {
     
     private MemoryLogService memoryLogService = new MemoryLogService();
     
+    private volatile boolean printEnabled = true;
+    
     @Override
     public MemoryLogService getMemoryLogService() {
         return memoryLogService;
     }
     
+    @Override
+    public void setPrintEnabled(final boolean printEnabled) {
+        this.printEnabled = printEnabled;
+    }
+    
     @Override
     public void initEnvironment() {
         getOrderRepository().createTableIfNotExists();
@@ -57,12 +65,12 @@ public abstract class CommonServiceImpl implements CommonService {
     @Transactional
     @Override
     public void processSuccess() {
-        System.out.println("-------------- Process Success Begin ---------------");
+        print("-------------- Process Success Begin ---------------");
         List<Long> orderIds = insertData();
         printData();
         deleteData(orderIds);
         printData();
-        System.out.println("-------------- Process Success Finish --------------");
+        print("-------------- Process Success Finish --------------");
     }
     
     /**
@@ -71,65 +79,85 @@ public abstract class CommonServiceImpl implements CommonService {
     @Transactional
     @Override
     public void processFailure() {
-        System.out.println("-------------- Process Failure Begin ---------------");
+        print("-------------- Process Failure Begin ---------------");
         insertData();
-        System.out.println("-------------- Process Failure Finish --------------");
+        print("-------------- Process Failure Finish --------------");
         throw new RuntimeException("Exception occur for transaction test.");
     }
     
     @Override
     public List<Long> insertData() {
-        System.out.println("---------------------------- Insert Data ----------------------------");
-        List<Long> result = new ArrayList<>(10);
+        print("---------------------------- Insert Data ----------------------------");
+        List<Order> orders = new ArrayList<>(10);
         for (int i = 1; i <= 10; i++) {
             Order order = newOrder();
             order.setUserId(i);
             order.setStatus("INSERT_TEST");
-            getOrderRepository().insert(order);
-            memoryLogService.putOrderData(DatabaseAccess.INSERT, order);
+            orders.add(order);
+        }
+        getOrderRepository().insertAll(orders);
+        List<OrderItem> items = new ArrayList<>(orders.size());
+        List<Long> result = new ArrayList<>(orders.size());
+        for (Order each : orders) {
+            memoryLogService.putOrderData(DatabaseAccess.INSERT, each);
             OrderItem item = newOrderItem();
-            item.setOrderId(order.getOrderId());
-            item.setUserId(i);
+            item.setOrderId(each.getOrderId());
+            item.setUserId(each.getUserId());
             item.setStatus("INSERT_TEST");
-            getOrderItemRepository().insert(item);
-            memoryLogService.putItemData(DatabaseAccess.INSERT, item);
-            result.add(order.getOrderId());
+            items.add(item);
+            result.add(each.getOrderId());
+        }
+        getOrderItemRepository().insertAll(items);
+        for (OrderItem each : items) {
+            memoryLogService.putItemData(DatabaseAccess.INSERT, each);
         }
         return result;
     }
     
     private void deleteData(final List<Long> orderIds) {
-        System.out.println("---------------------------- Delete Data ----------------------------");
-        for (Long each : orderIds) {
-            getOrderRepository().delete(each);
-            getOrderItemRepository().delete(each);
-        }
+        print("---------------------------- Delete Data ----------------------------");
+        getOrderRepository().deleteAll(orderIds);
+        getOrderItemRepository().deleteAll(orderIds);
     }
     
     @Override
     public void printData() {
-        System.out.println("---------------------------- Print Order Data -----------------------");
-        for (Order each : getOrderRepository().selectAll()) {
-            memoryLogService.putOrderData(DatabaseAccess.SELECT, each);
-            System.out.println(each);
-        }
-        System.out.println("---------------------------- Print OrderItem Data -------------------");
-        for (OrderItem each : getOrderItemRepository().selectAll()) {
-            memoryLogService.putItemData(DatabaseAccess.SELECT, each);
-            System.out.println(each);
-        }
+        print("---------------------------- Print Order Data -----------------------");
+        getOrderRepository().forEach(new EntityConsumer<Order>() {
+            
+            @Override
+            public void accept(final Order order) {
+                memoryLogService.putOrderData(DatabaseAccess.SELECT, order);
+                print(order);
+            }
+        });
+        print("---------------------------- Print OrderItem Data -------------------");
+        getOrderItemRepository().forEach(new EntityConsumer<OrderItem>() {
+            
+            @Override
+            public void accept(final OrderItem orderItem) {
+                memoryLogService.putItemData(DatabaseAccess.SELECT, orderItem);
+                print(orderItem);
+            }
+        });
     }
     
     protected void doPrintRangeData() {
-        System.out.println("---------------------------- Print Order Data -----------------------");
+        print("---------------------------- Print Order Data -----------------------");
         for (Order each : getOrderRepository().selectRange()) {
             getMemoryLogService().putOrderData(DatabaseAccess.SELECT, each);
-            System.out.println(each);
+            print(each);
         }
-        System.out.println("---------------------------- Print OrderItem Data -------------------");
+        print("---------------------------- Print OrderItem Data -------------------");
         for (OrderItem each : getOrderItemRepository().selectRange()) {
             getMemoryLogService().putItemData(DatabaseAccess.SELECT, each);
-            System.out.println(each);
+            print(each);
+        }
+    }
+    
+    private void print(final Object message) {
+        if (printEnabled) {
+            System.out.println(message);
         }
     }
     
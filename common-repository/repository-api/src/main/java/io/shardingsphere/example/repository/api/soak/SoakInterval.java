@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.soak;
+
+/**
+ * Metrics of one report interval of soak, latencies are in microseconds.
+ *
+ * <p>Connection pool metrics are {@link #UNAVAILABLE} if no pool or data source metrics MBean is registered.</p>
+ */
+public final class SoakInterval {
+    
+    public static final int UNAVAILABLE = -1;
+    
+    private final long elapsedSeconds;
+    
+    private final long cycles;
+    
+    private final long errors;
+    
+    private final double cyclesPerSecond;
+    
+    private final long latencyP50;
+    
+    private final long latencyP99;
+    
+    private final long latencyMax;
+    
+    private final long heapUsedBytes;
+    
+    private final long heapAfterGcBytes;
+    
+    private final int activeConnections;
+    
+    private final int totalConnections;
+    
+    private final int threadsAwaitingConnection;
+    
+    private final long connectionAcquireWaitP99;
+    
+    SoakInterval(final long elapsedSeconds, final long cycles, final long errors, final double cyclesPerSecond, final long latencyP50, final long latencyP99, final long latencyMax,
+                 final long heapUsedBytes, final long heapAfterGcBytes, final int activeConnections, final int totalConnections, final int threadsAwaitingConnection,
+                 final long connectionAcquireWaitP99) {
+        this.elapsedSeconds = elapsedSeconds;
+        this.cycles = cycles;
+        this.errors = errors;
+        this.cyclesPerSecond = cyclesPerSecond;
+        this.latencyP50 = latencyP50;
+        this.latencyP99 = latencyP99;
+        this.latencyMax = latencyMax;
+        this.heapUsedBytes = heapUsedBytes;
+        this.heapAfterGcBytes = heapAfterGcBytes;
+        this.activeConnections = activeConnections;
+        this.totalConnections = totalConnections;
+        this.threadsAwaitingConnection = threadsAwaitingConnection;
+        this.connectionAcquireWaitP99 = connectionAcquireWaitP99;
+    }
+    
+    public long getElapsedSeconds() {
+        return elapsedSeconds;
+    }
+    
+    public long getCycles() {
+        return cycles;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    public double getCyclesPerSecond() {
+        return cyclesPerSecond;
+    }
+    
+    public long getLatencyP50() {
+        return latencyP50;
+    }
+    
+    public long getLatencyP99() {
+        return latencyP99;
+    }
+    
+    public long getLatencyMax() {
+        return latencyMax;
+    }
+    
+    public long getHeapUsedBytes() {
+        return heapUsedBytes;
+    }
+    
+    public long getHeapAfterGcBytes() {
+        return heapAfterGcBytes;
+    }
+    
+    public int getActiveConnections() {
+        return activeConnections;
+    }
+    
+    public int getTotalConnections() {
+        return totalConnections;
+    }
+    
+    public int getThreadsAwaitingConnection() {
+        return threadsAwaitingConnection;
+    }
+    
+    public long getConnectionAcquireWaitP99() {
+        return connectionAcquireWaitP99;
+    }
+    
+    @Override
+    public String toString() {
+        return String.format("%6ds %9d %6d %10.1f %9d %9d %10d %8dM %8dM %4s/%-4s %6s %9s", elapsedSeconds, cycles, errors, cyclesPerSecond, latencyP50, latencyP99, latencyMax,
+                heapUsedBytes >> 20, heapAfterGcBytes >> 20, format(activeConnections), format(totalConnections), format(threadsAwaitingConnection), format(connectionAcquireWaitP99));
+    }
+    
+    private static String format(final long value) {
+        return UNAVAILABLE == value ? "n/a" : String.valueOf(value);
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.soak;
+
+/**
+ * Soak options.
+ */
+public final class SoakOptions {
+    
+    private final int threads;
+    
+    private final int durationSeconds;
+    
+    private final int reportIntervalSeconds;
+    
+    public SoakOptions(final int threads, final int durationSeconds, final int reportIntervalSeconds) {
+        if (threads <= 0 || durationSeconds <= 0 || reportIntervalSeconds <= 0) {
+            throw new IllegalArgumentException("Threads, duration and report interval must be positive.");
+        }
+        this.threads = threads;
+        this.durationSeconds = durationSeconds;
+        this.reportIntervalSeconds = reportIntervalSeconds;
+    }
+    
+    /**
+     * Create soak options from system properties `soak.threads`, `soak.duration.seconds` and `soak.report.interval.seconds`.
+     *
+     * @return soak options
+     */
+    public static SoakOptions fromSystemProperties() {
+        return new SoakOptions(Integer.getInteger("soak.threads", 8), Integer.getInteger("soak.duration.seconds", 600), Integer.getInteger("soak.report.interval.seconds", 10));
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getReportIntervalSeconds() {
+        return reportIntervalSeconds;
+    }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.soak;
+
+import java.util.List;
+
+/**
+ * Soak report of one service.
+ *
+ * <p>Throughput decay compares mean throughput of the second half of intervals with the first half,
+ * heap growth compares heap after GC of the last interval with the first one.</p>
+ */
+public final class SoakReport {
+    
+    private static final String HEADER = String.format("%7s %9s %6s %10s %9s %9s %10s %9s %9s %9s %6s %9s",
+            "elapsed", "cycles", "errors", "cycles/s", "p50(us)", "p99(us)", "max(us)", "heap", "heap(gc)", "active", "await", "acq99(us)");
+    
+    private final String name;
+    
+    private final List<SoakInterval> intervals;
+    
+    private final Throwable firstError;
+    
+    SoakReport(final String name, final List<SoakInterval> intervals, final Throwable firstError) {
+        this.name = name;
+        this.intervals = intervals;
+        this.firstError = firstError;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public List<SoakInterval> getIntervals() {
+        return intervals;
+    }
+    
+    public Throwable getFirstError() {
+        return firstError;
+    }
+    
+    /**
+     * Get total cycles.
+     *
+     * @return total cycles
+     */
+    public long getTotalCycles() {
+        long result = 0;
+        for (SoakInterval each : intervals) {
+            result += each.getCycles();
+        }
+        return result;
+    }
+    
+    /**
+     * Get total errors.
+     *
+     * @return total errors
+     */
+    public long getTotalErrors() {
+        long result = 0;
+        for (SoakInterval each : intervals) {
+            result += each.getErrors();
+        }
+        return result;
+    }
+    
+    /**
+     * Get throughput decay, 0.2 means second half is 20% slower than first half.
+     *
+     * @return throughput decay
+     */
+    public double getThroughputDecay() {
+        int half = intervals.size() / 2;
+        if (0 == half) {
+            return 0;
+        }
+        double first = meanCyclesPerSecond(0, half);
+        return 0 == first ? 0 : 1 - meanCyclesPerSecond(intervals.size() - half, intervals.size()) / first;
+    }
+    
+    private double meanCyclesPerSecond(final int from, final int to) {
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += intervals.get(i).getCyclesPerSecond();
+        }
+        return sum / (to - from);
+    }
+    
+    /**
+     * Get heap growth after GC.
+     *
+     * @return heap growth in bytes
+     */
+    public long getHeapGrowthBytes() {
+        return intervals.size() < 2 ? 0 : intervals.get(intervals.size() - 1).getHeapAfterGcBytes() - intervals.get(0).getHeapAfterGcBytes();
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        result.append("Soak of ").append(name).append(System.lineSeparator()).append(HEADER).append(System.lineSeparator());
+        for (SoakInterval each : intervals) {
+            result.append(each).append(System.lineSeparator());
+        }
+        result.append(String.format("cycles=%d, errors=%d, throughput_decay=%.1f%%, heap_growth=%dK", getTotalCycles(), getTotalErrors(), getThroughputDecay() * 100, getHeapGrowthBytes() >> 10));
+        if (null != firstError) {
+            result.append(", first_error=").append(firstError);
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.repository.api.soak;
+
+import io.shardingsphere.example.repository.api.service.CommonService;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.zip.DataFormatException;
+
+/**
+ * Run insert, select and delete cycle of {@link CommonService#processSuccess()} from many threads for a configured duration.
+ *
+ * <p>Every report interval records throughput, latency percentiles, heap usage and connection pool saturation.
+ * Pool saturation is read from Hikari pool MBeans, which are registered only with `register-mbeans=true`, and from data source metrics MBeans,
+ * acquire wait percentile of each interval is computed from the difference of two cumulative histogram samples.
+ * Metrics without any registered MBean are reported as unavailable instead of 0.</p>
+ */
+public final class SoakRunner {
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private final SoakOptions options;
+    
+    public SoakRunner(final SoakOptions options) {
+        this.options = options;
+    }
+    
+    /**
+     * Soak one service.
+     *
+     * @param name name of service
+     * @param service service
+     * @return soak report
+     * @throws InterruptedException interrupted exception
+     */
+    public SoakReport run(final String name, final CommonService service) throws InterruptedException {
+        Recorder recorder = new Recorder(SIGNIFICANT_DIGITS);
+        AtomicLong errors = new AtomicLong();
+        AtomicReference<Throwable> firstError = new AtomicReference<>();
+        AtomicBoolean stopped = new AtomicBoolean();
+        List<SoakInterval> intervals = new ArrayList<>(options.getDurationSeconds() / options.getReportIntervalSeconds() + 1);
+        MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        Map<ObjectName, Histogram> acquireWaitSamples = new HashMap<>();
+        sampleAcquireWait(mBeanServer, acquireWaitSamples);
+        service.setPrintEnabled(false);
+        ExecutorService executorService = Executors.newFixedThreadPool(options.getThreads());
+        try {
+            for (int i = 0; i < options.getThreads(); i++) {
+                executorService.execute(new SoakWorker(service, recorder, errors, firstError, stopped));
+            }
+            long startNanos = System.nanoTime();
+            long endNanos = startNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+            long intervalNanos = TimeUnit.SECONDS.toNanos(options.getReportIntervalSeconds());
+            long lastNanos = startNanos;
+            long lastErrors = 0;
+            while (lastNanos < endNanos) {
+                long nextNanos = Math.min(lastNanos + intervalNanos, endNanos);
+                TimeUnit.NANOSECONDS.sleep(nextNanos - System.nanoTime());
+                long nowNanos = System.nanoTime();
+                long currentErrors = errors.get();
+                intervals.add(createInterval(mBeanServer, acquireWaitSamples, recorder.getIntervalHistogram(), nowNanos - startNanos, nowNanos - lastNanos, currentErrors - lastErrors));
+                lastNanos = nowNanos;
+                lastErrors = currentErrors;
+            }
+        } finally {
+            stopped.set(true);
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+            service.setPrintEnabled(true);
+        }
+        return new SoakReport(name, intervals, firstError.get());
+    }
+    
+    private SoakInterval createInterval(final MBeanServer mBeanServer, final Map<ObjectName, Histogram> acquireWaitSamples,
+                                        final Histogram histogram, final long elapsedNanos, final long intervalNanos, final long errors) {
+        int[] pool = samplePools(mBeanServer);
+        return new SoakInterval(TimeUnit.NANOSECONDS.toSeconds(elapsedNanos), histogram.getTotalCount(), errors, histogram.getTotalCount() * 1e9 / intervalNanos,
+                histogram.getValueAtPercentile(50), histogram.getValueAtPercentile(99), histogram.getMaxValue(),
+                ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed(), getHeapAfterGc(), pool[0], pool[1], pool[2], sampleAcquireWait(mBeanServer, acquireWaitSamples));
+    }
+    
+    private long getHeapAfterGc() {
+        long result = 0;
+        for (MemoryPoolMXBean each : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage usage = each.getCollectionUsage();
+            if (MemoryType.HEAP == each.getType() && null != usage) {
+                result += usage.getUsed();
+            }
+        }
+        return result;
+    }
+    
+    private int[] samplePools(final MBeanServer mBeanServer) {
+        int[] result = new int[3];
+        try {
+            Set<ObjectName> names = mBeanServer.queryNames(new ObjectName("com.zaxxer.hikari:type=Pool (*"), null);
+            if (names.isEmpty()) {
+                return new int[] {SoakInterval.UNAVAILABLE, SoakInterval.UNAVAILABLE, SoakInterval.UNAVAILABLE};
+            }
+            for (ObjectName each : names) {
+                result[0] += (Integer) mBeanServer.getAttribute(each, "ActiveConnections");
+                result[1] += (Integer) mBeanServer.getAttribute(each, "TotalConnections");
+                result[2] += (Integer) mBeanServer.getAttribute(each, "ThreadsAwaitingConnection");
+            }
+        } catch (final JMException ignore) {
+            return new int[] {SoakInterval.UNAVAILABLE, SoakInterval.UNAVAILABLE, SoakInterval.UNAVAILABLE};
+        }
+        return result;
+    }
+    
+    private long sampleAcquireWait(final MBeanServer mBeanServer, final Map<ObjectName, Histogram> lastSamples) {
+        Histogram result = new Histogram(SIGNIFICANT_DIGITS);
+        try {
+            Set<ObjectName> names = mBeanServer.queryNames(new ObjectName("io.shardingsphere.example:type=DataSourceMetrics,*"), null);
+            if (names.isEmpty()) {
+                return SoakInterval.UNAVAILABLE;
+            }
+            for (ObjectName each : names) {
+                byte[] encoded = (byte[]) mBeanServer.getAttribute(each, "ConnectionAcquireWaitHistogram");
+                Histogram current = Histogram.decodeFromCompressedByteBuffer(ByteBuffer.wrap(encoded), 0);
+                result.add(getIntervalHistogram(current, lastSamples.put(each, current)));
+            }
+        } catch (final JMException | DataFormatException ignore) {
+            return SoakInterval.UNAVAILABLE;
+        }
+        return result.getValueAtPercentile(99);
+    }
+    
+    private Histogram getIntervalHistogram(final Histogram current, final Histogram last) {
+        if (null == last) {
+            return current;
+        }
+        Histogram result = current.copy();
+        try {
+            result.subtract(last);
+        } catch (final IllegalArgumentException | ArrayIndexOutOfBoundsException ignore) {
+            return current;
+        }
+        return result;
+    }
+    
+    private static final class SoakWorker implements Runnable {
+        
+        private final CommonService service;
+        
+        private final Recorder recorder;
+        
+        private final AtomicLong errors;
+        
+        private final AtomicReference<Throwable> firstError;
+        
+        private final AtomicBoolean stopped;
+        
+        SoakWorker(final CommonService service, final Recorder recorder, final AtomicLong errors, final AtomicReference<Throwable> firstError, final AtomicBoolean stopped) {
+            this.service = service;
+            this.recorder = recorder;
+            this.errors = errors;
+            this.firstError = firstError;
+            this.stopped = stopped;
+        }
+        
+        @Override
+        public void run() {
+            while (!stopped.get()) {
+                long startNanos = System.nanoTime();
+                try {
+                    service.processSuccess();
+                    recorder.recordValue(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos));
+                } catch (final RuntimeException ex) {
+                    errors.incrementAndGet();
+                    firstError.compareAndSet(null, ex);
+                }
+            }
+        }
+    }
+}
@@ -20,42 +20,122 @@ package io.shardingsphere.example.repository.api.trace;
 import io.shardingsphere.example.repository.api.entity.Order;
 import io.shardingsphere.example.repository.api.entity.OrderItem;
 
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 /**
  * Memory repository history.
  *
+ * <p>Every database access is counted, only the latest entities are sampled into a bounded ring buffer.
+ * Recording is lock-free and safe for concurrent writers, so memory stays flat in long running scenarios.</p>
+ *
  * @author zhaojun
  */
 public class MemoryLogService {
     
-    private final Map<DatabaseAccess, List<Order>> orderMap = new HashMap<>();
+    public static final int DEFAULT_SAMPLE_CAPACITY = 1024;
     
-    private final Map<DatabaseAccess, List<OrderItem>> orderItemMap = new HashMap<>();
+    private final AtomicLongArray orderCounts = new AtomicLongArray(DatabaseAccess.values().length);
     
-    public void putOrderData(final DatabaseAccess operation, final Order order) {
-        if (!orderMap.containsKey(operation)) {
-            orderMap.put(operation, new LinkedList<Order>());
+    private final AtomicLongArray orderItemCounts = new AtomicLongArray(DatabaseAccess.values().length);
+    
+    private final SampleRing[] orderSamples = new SampleRing[DatabaseAccess.values().length];
+    
+    private final SampleRing[] orderItemSamples = new SampleRing[DatabaseAccess.values().length];
+    
+    public MemoryLogService() {
+        this(DEFAULT_SAMPLE_CAPACITY);
+    }
+    
+    /**
+     * Create memory log service.
+     *
+     * @param sampleCapacity max sampled entities per database access, rounded up to power of two, 0 disables sampling
+     */
+    public MemoryLogService(final int sampleCapacity) {
+        if (sampleCapacity < 0) {
+            throw new IllegalArgumentException("Sample capacity must not be negative.");
+        }
+        for (DatabaseAccess each : DatabaseAccess.values()) {
+            orderSamples[each.ordinal()] = new SampleRing(sampleCapacity);
+            orderItemSamples[each.ordinal()] = new SampleRing(sampleCapacity);
         }
-        orderMap.get(operation).add(order);
     }
     
+    public void putOrderData(final DatabaseAccess operation, final Order order) {
+        orderCounts.incrementAndGet(operation.ordinal());
+        orderSamples[operation.ordinal()].put(order);
+    }
+    
+    /**
+     * Get sampled orders, oldest first.
+     *
+     * @param operation database access
+     * @return sampled orders, at most sample capacity
+     */
+    @SuppressWarnings("unchecked")
     public List<Order> getOrderData(final DatabaseAccess operation) {
-        return orderMap.containsKey(operation) ? orderMap.get(operation) : Collections.<Order>emptyList();
+        return (List<Order>) orderSamples[operation.ordinal()].snapshot();
+    }
+    
+    public long getOrderCount(final DatabaseAccess operation) {
+        return orderCounts.get(operation.ordinal());
     }
     
     public void putItemData(final DatabaseAccess operation, final OrderItem orderItem) {
-        if (!orderItemMap.containsKey(operation)) {
-            orderItemMap.put(operation, new LinkedList<OrderItem>());
-        }
-        orderItemMap.get(operation).add(orderItem);
+        orderItemCounts.incrementAndGet(operation.ordinal());
+        orderItemSamples[operation.ordinal()].put(orderItem);
     }
     
+    /**
+     * Get sampled order items, oldest first.
+     *
+     * @param operation database access
+     * @return sampled order items, at most sample capacity
+     */
+    @SuppressWarnings("unchecked")
     public List<OrderItem> getOrderItemData(final DatabaseAccess operation) {
-        return orderItemMap.containsKey(operation) ? orderItemMap.get(operation) : Collections.<OrderItem>emptyList();
+        return (List<OrderItem>) orderItemSamples[operation.ordinal()].snapshot();
+    }
+    
+    public long getOrderItemCount(final DatabaseAccess operation) {
+        return orderItemCounts.get(operation.ordinal());
+    }
+    
+    private static final class SampleRing {
+        
+        private final AtomicReferenceArray<Object> entries;
+        
+        private final int mask;
+        
+        private final AtomicLong cursor = new AtomicLong();
+        
+        SampleRing(final int capacity) {
+            entries = new AtomicReferenceArray<>(0 == capacity ? 0 : Math.max(1, Integer.highestOneBit(capacity - 1) << 1));
+            mask = entries.length() - 1;
+        }
+        
+        void put(final Object entity) {
+            if (0 == entries.length()) {
+                return;
+            }
+            entries.set((int) (cursor.getAndIncrement() & mask), entity);
+        }
+        
+        List<?> snapshot() {
+            long end = cursor.get();
+            long start = Math.max(0, end - entries.length());
+            List<Object> result = new ArrayList<>((int) (end - start));
+            for (long i = start; i < end; i++) {
+                Object entity = entries.get((int) (i & mask));
+                if (null != entity) {
+                    result.add(entity);
+                }
+            }
+            return result;
+        }
     }
 }
@@ -32,13 +32,13 @@ public class ResultAssertUtils {
     
     public static void assertShardingDatabaseResult(final CommonService commonService, final boolean isRangeSharding) {
         MemoryLogService memoryLogService = ((CommonServiceImpl) commonService).getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(10));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(10L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(10L));
         if (isRangeSharding) {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(2));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(2L));
         } else {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
         }
     }
 
@@ -48,17 +48,17 @@ public class ResultAssertUtils {
     
     public static void assertShardingTableResult(final CommonService commonService, final boolean isRangeSharding) {
         MemoryLogService memoryLogService = ((CommonServiceImpl) commonService).getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(10L));
         if (isRangeSharding) {
-            assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(5));
+            assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(5L));
         } else {
-            assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
+            assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
         }
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(10));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(10L));
         if (isRangeSharding) {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(5));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(5L));
         } else {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
         }
     }
 
@@ -68,41 +68,41 @@ public class ResultAssertUtils {
 
     public static void assertShardingDatabaseAndTableResult(final CommonService commonService, final boolean isRangeSharding) {
         MemoryLogService memoryLogService = ((CommonServiceImpl) commonService).getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(10L));
         if (isRangeSharding) {
-            assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(5));
+            assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(5L));
         } else {
-            assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
+            assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
         }
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(10));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(10L));
         if (isRangeSharding) {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(2));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(2L));
         } else {
-            assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+            assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
         }
     }
 
     public static void assertMasterSlaveResult(final CommonService commonService) {
         MemoryLogService memoryLogService = ((CommonServiceImpl) commonService).getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(10));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(0));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(0));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(10L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(0L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(0L));
     }
     
     public static void assertTransactionServiceResult(final TransactionService transactionService) {
         MemoryLogService memoryLogService = transactionService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(30));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(30));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(30L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(30L));
     }
     
     public static void assertTransactionMasterSlaveResult(final TransactionService transactionService) {
         MemoryLogService memoryLogService = ((CommonServiceImpl) transactionService).getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(30));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(30));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(30L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(30L));
     }
 }
@@ -27,49 +27,49 @@ public class SpringResultAssertUtils {
 
     public static void assertShardingDatabaseResult(final CommonService commonService) {
         MemoryLogService memoryLogService = commonService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
     }
 
     public static void assertShardingTableResult(final CommonService commonService) {
         MemoryLogService memoryLogService = commonService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
     }
 
     public static void assertShardingDatabaseAndTableResult(final CommonService commonService) {
         MemoryLogService memoryLogService = commonService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
     }
 
     public static void assertMasterSlaveResult(final CommonService commonService) {
         MemoryLogService memoryLogService = commonService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(10));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(20));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(10));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(10L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(20L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(10L));
     }
     
     public static void assertTransactionServiceResult(final TransactionService transactionService) {
         MemoryLogService memoryLogService = transactionService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(30));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(60));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(30));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(30L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(60L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(30L));
     }
     
     public static void assertTransactionMasterSlaveResult(final TransactionService transactionService) {
         MemoryLogService memoryLogService = transactionService.getMemoryLogService();
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.INSERT).size(), is(40));
-        assertThat(memoryLogService.getOrderData(DatabaseAccess.SELECT).size(), is(20));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.INSERT).size(), is(40));
-        assertThat(memoryLogService.getOrderItemData(DatabaseAccess.SELECT).size(), is(20));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.INSERT), is(40L));
+        assertThat(memoryLogService.getOrderCount(DatabaseAccess.SELECT), is(20L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.INSERT), is(40L));
+        assertThat(memoryLogService.getOrderItemCount(DatabaseAccess.SELECT), is(20L));
     }
 }
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run benchmarks with GC profiler, so ns/op is reported together with allocation rate.
+ *
+ * <p>Optional first argument is a regular expression of benchmarks to include, default is all benchmarks of this module.</p>
+ */
+public final class BenchmarkRunner {
+    
+    private static final String DEFAULT_INCLUDE = BenchmarkRunner.class.getPackage().getName() + ".*";
+    
+    public static void main(final String[] args) throws RunnerException {
+        Options options = new OptionsBuilder().include(0 == args.length ? DEFAULT_INCLUDE : args[0]).addProfiler(GCProfiler.class).build();
+        new Runner(options).run();
+    }
+}
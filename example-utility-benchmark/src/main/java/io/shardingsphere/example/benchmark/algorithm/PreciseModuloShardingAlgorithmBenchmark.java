@@ -0,0 +1,118 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark.algorithm;
+
+import io.shardingsphere.example.algorithm.PreciseIndexedModuloShardingDatabaseAlgorithm;
+import io.shardingsphere.example.algorithm.PreciseIndexedModuloShardingTableAlgorithm;
+import io.shardingsphere.example.algorithm.PreciseModuloShardingDatabaseAlgorithm;
+import io.shardingsphere.example.algorithm.PreciseModuloShardingTableAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Properties;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for precise modulo sharding algorithms.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PreciseModuloShardingAlgorithmBenchmark {
+    
+    @Param({"2", "16", "256", "1024"})
+    private int shardCount;
+    
+    private final PreciseModuloShardingDatabaseAlgorithm databaseAlgorithm = new PreciseModuloShardingDatabaseAlgorithm();
+    
+    private final PreciseModuloShardingTableAlgorithm tableAlgorithm = new PreciseModuloShardingTableAlgorithm();
+    
+    private PreciseIndexedModuloShardingDatabaseAlgorithm indexedDatabaseAlgorithm;
+    
+    private PreciseIndexedModuloShardingTableAlgorithm indexedTableAlgorithm;
+    
+    private Collection<String> databaseNames;
+    
+    private Collection<String> tableNames;
+    
+    private List<PreciseShardingValue<Integer>> databaseShardingValues;
+    
+    private List<PreciseShardingValue<Long>> tableShardingValues;
+    
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        databaseNames = ShardingTargets.databaseNames(shardCount);
+        tableNames = ShardingTargets.tableNames(shardCount);
+        Properties props = new Properties();
+        props.setProperty(PreciseIndexedModuloShardingDatabaseAlgorithm.SHARDING_COUNT_KEY, String.valueOf(shardCount));
+        props.setProperty(PreciseIndexedModuloShardingTableAlgorithm.SHARDING_COUNT_KEY, String.valueOf(shardCount));
+        indexedDatabaseAlgorithm = new PreciseIndexedModuloShardingDatabaseAlgorithm(props);
+        indexedTableAlgorithm = new PreciseIndexedModuloShardingTableAlgorithm(props);
+        databaseShardingValues = new ArrayList<>(ShardingTargets.VALUE_COUNT);
+        tableShardingValues = new ArrayList<>(ShardingTargets.VALUE_COUNT);
+        Random random = new Random(shardCount);
+        for (int i = 0; i < ShardingTargets.VALUE_COUNT; i++) {
+            databaseShardingValues.add(new PreciseShardingValue<Integer>(ShardingTargets.LOGIC_TABLE, ShardingTargets.DATABASE_COLUMN, random.nextInt(Integer.MAX_VALUE)));
+            tableShardingValues.add(new PreciseShardingValue<Long>(ShardingTargets.LOGIC_TABLE, ShardingTargets.TABLE_COLUMN, random.nextLong() & Long.MAX_VALUE));
+        }
+    }
+    
+    @Benchmark
+    public String doShardingDatabase() {
+        return databaseAlgorithm.doSharding(databaseNames, databaseShardingValues.get(nextIndex()));
+    }
+    
+    @Benchmark
+    public String doShardingTable() {
+        return tableAlgorithm.doSharding(tableNames, tableShardingValues.get(nextIndex()));
+    }
+    
+    @Benchmark
+    public String doShardingDatabaseIndexed() {
+        return indexedDatabaseAlgorithm.doSharding(databaseNames, databaseShardingValues.get(nextIndex()));
+    }
+    
+    @Benchmark
+    public String doShardingTableIndexed() {
+        return indexedTableAlgorithm.doSharding(tableNames, tableShardingValues.get(nextIndex()));
+    }
+    
+    private int nextIndex() {
+        index = (index + 1) & (ShardingTargets.VALUE_COUNT - 1);
+        return index;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark.algorithm;
+
+import com.google.common.collect.Range;
+import io.shardingsphere.example.algorithm.RangeModuloShardingDatabaseAlgorithm;
+import io.shardingsphere.example.algorithm.RangeModuloShardingTableAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for range modulo sharding algorithms.
+ *
+ * <p>Ranges are kept inside the bands the algorithms accept, anything else is unroutable.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RangeModuloShardingAlgorithmBenchmark {
+    
+    private static final long TABLE_RANGE_LOWER = 200000000000000000L;
+    
+    private static final long TABLE_RANGE_UPPER = 400000000000000000L;
+    
+    @Param({"2", "16", "256", "1024"})
+    private int shardCount;
+    
+    private final RangeModuloShardingDatabaseAlgorithm databaseAlgorithm = new RangeModuloShardingDatabaseAlgorithm();
+    
+    private final RangeModuloShardingTableAlgorithm tableAlgorithm = new RangeModuloShardingTableAlgorithm();
+    
+    private Collection<String> databaseNames;
+    
+    private Collection<String> tableNames;
+    
+    private List<RangeShardingValue<Integer>> databaseShardingValues;
+    
+    private List<RangeShardingValue<Long>> tableShardingValues;
+    
+    private int index;
+    
+    @Setup
+    public void setUp() {
+        databaseNames = ShardingTargets.databaseNames(shardCount);
+        tableNames = ShardingTargets.tableNames(shardCount);
+        databaseShardingValues = new ArrayList<>(ShardingTargets.VALUE_COUNT);
+        tableShardingValues = new ArrayList<>(ShardingTargets.VALUE_COUNT);
+        Random random = new Random(shardCount);
+        for (int i = 0; i < ShardingTargets.VALUE_COUNT; i++) {
+            databaseShardingValues.add(new RangeShardingValue<>(ShardingTargets.LOGIC_TABLE, ShardingTargets.DATABASE_COLUMN, createDatabaseRange(random)));
+            tableShardingValues.add(new RangeShardingValue<>(ShardingTargets.LOGIC_TABLE, ShardingTargets.TABLE_COLUMN, createTableRange(random)));
+        }
+    }
+    
+    private Range<Integer> createDatabaseRange(final Random random) {
+        int lower = 1 + random.nextInt(10);
+        int upper = lower + random.nextInt(11 - lower);
+        return Range.closed(lower, upper);
+    }
+    
+    private Range<Long> createTableRange(final Random random) {
+        long span = TABLE_RANGE_UPPER - TABLE_RANGE_LOWER;
+        long lower = TABLE_RANGE_LOWER + (random.nextLong() & Long.MAX_VALUE) % span;
+        long upper = lower + (random.nextLong() & Long.MAX_VALUE) % (TABLE_RANGE_UPPER - lower + 1);
+        return Range.closed(lower, upper);
+    }
+    
+    @Benchmark
+    public Collection<String> doShardingDatabase() {
+        return databaseAlgorithm.doSharding(databaseNames, databaseShardingValues.get(nextIndex()));
+    }
+    
+    @Benchmark
+    public Collection<String> doShardingTable() {
+        return tableAlgorithm.doSharding(tableNames, tableShardingValues.get(nextIndex()));
+    }
+    
+    private int nextIndex() {
+        index = (index + 1) & (ShardingTargets.VALUE_COUNT - 1);
+        return index;
+    }
+}
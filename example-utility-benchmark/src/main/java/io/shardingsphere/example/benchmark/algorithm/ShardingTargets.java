@@ -0,0 +1,62 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark.algorithm;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Target names in the same order sharding rule hands them to algorithms.
+ */
+final class ShardingTargets {
+    
+    static final String DATABASE_PREFIX = "ds_";
+    
+    static final String TABLE_PREFIX = "t_order_";
+    
+    static final String LOGIC_TABLE = "t_order";
+    
+    static final String DATABASE_COLUMN = "user_id";
+    
+    static final String TABLE_COLUMN = "order_id";
+    
+    /**
+     * Number of pre-built sharding values each benchmark cycles through, must be power of two.
+     */
+    static final int VALUE_COUNT = 1024;
+    
+    private ShardingTargets() {
+    }
+    
+    static Collection<String> databaseNames(final int shardCount) {
+        return names(DATABASE_PREFIX, shardCount);
+    }
+    
+    static Collection<String> tableNames(final int shardCount) {
+        return names(TABLE_PREFIX, shardCount);
+    }
+    
+    private static Collection<String> names(final String prefix, final int shardCount) {
+        List<String> result = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            result.add(prefix + i);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark.keygen;
+
+import io.shardingsphere.example.keygen.BlockSnowflakeShardingKeyGenerator;
+import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenerator;
+import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for key generators shared by all benchmark threads.
+ *
+ * <p>Run {@link #main(String[])} to measure under 1 to 64 threads, snowflake keys are capped at 4096 per millisecond per worker id,
+ * so it reports keys per millisecond of every run against that limit, a generator close to the limit is bound by sequence space instead of contention.</p>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class KeyGeneratorBenchmark {
+    
+    private static final int[] THREAD_COUNTS = {1, 2, 4, 8, 16, 32, 64};
+    
+    private static final int SEQUENCE_LIMIT_PER_MILLISECOND = 4096;
+    
+    @Param({"SNOWFLAKE", "SNOWFLAKE_BLOCK"})
+    private String type;
+    
+    private ShardingKeyGenerator keyGenerator;
+    
+    @Setup
+    public void setUp() {
+        keyGenerator = "SNOWFLAKE".equals(type) ? new SnowflakeShardingKeyGenerator() : new BlockSnowflakeShardingKeyGenerator();
+        keyGenerator.setProperties(new Properties());
+    }
+    
+    @Benchmark
+    public Comparable<?> generateKey() {
+        return keyGenerator.generateKey();
+    }
+    
+    public static void main(final String[] args) throws RunnerException {
+        Collection<String> lines = new LinkedList<>();
+        for (int each : THREAD_COUNTS) {
+            for (RunResult runResult : new Runner(new OptionsBuilder().include(KeyGeneratorBenchmark.class.getName()).threads(each).build()).run()) {
+                double keysPerMillisecond = runResult.getPrimaryResult().getScore();
+                lines.add(String.format("%-16s threads: %-3s keys/ms: %10.1f, %5.1f%% of %s limit",
+                        runResult.getParams().getParam("type"), each, keysPerMillisecond, keysPerMillisecond * 100 / SEQUENCE_LIMIT_PER_MILLISECOND, SEQUENCE_LIMIT_PER_MILLISECOND));
+            }
+        }
+        for (String each : lines) {
+            System.out.println(each);
+        }
+    }
+}
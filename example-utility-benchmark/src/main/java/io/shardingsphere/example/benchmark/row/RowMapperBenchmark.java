@@ -0,0 +1,224 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.benchmark.row;
+
+import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.row.OrderRowMapper;
+import io.shardingsphere.example.repository.jpa.entity.OrderEntity;
+import org.apache.ibatis.builder.xml.XMLMapperBuilder;
+import org.apache.ibatis.executor.resultset.DefaultResultSetHandler;
+import org.apache.ibatis.io.Resources;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.RowBounds;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.MySQL5Dialect;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.sql.DataSource;
+import javax.sql.rowset.CachedRowSet;
+import javax.sql.rowset.RowSetMetaDataImpl;
+import javax.sql.rowset.RowSetProvider;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark for mapping rows of {@code t_order} to orders.
+ *
+ * <p>Rows are held by an in-memory cached row set, a fresh copy per invocation because MyBatis and Hibernate close result sets.
+ * {@code mapByMybatisResultSetHandler} runs MyBatis {@link DefaultResultSetHandler} with {@code baseResultMap} of {@code OrderMapper.xml},
+ * {@code mapByHibernate} hydrates {@link OrderEntity} by Hibernate native query, whose statements are served by a stub connection.</p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RowMapperBenchmark {
+    
+    private static final String ORDER_MAPPER = "META-INF/mappers/OrderMapper.xml";
+    
+    private static final String SELECT_ALL_STATEMENT = "io.shardingsphere.example.repository.mybatis.repository.MybatisOrderRepository.selectAll";
+    
+    @Param({"1000"})
+    private int rowCount;
+    
+    private CachedRowSet rows;
+    
+    private CachedRowSet resultSet;
+    
+    private MappedStatement mappedStatement;
+    
+    private Statement statement;
+    
+    private SessionFactory sessionFactory;
+    
+    @Setup
+    public void setUp() throws SQLException, IOException {
+        RowSetMetaDataImpl metaData = new RowSetMetaDataImpl();
+        metaData.setColumnCount(3);
+        setColumn(metaData, 1, "order_id", Types.BIGINT);
+        setColumn(metaData, 2, "user_id", Types.INTEGER);
+        setColumn(metaData, 3, "status", Types.VARCHAR);
+        rows = RowSetProvider.newFactory().createCachedRowSet();
+        rows.setMetaData(metaData);
+        for (int i = 0; i < rowCount; i++) {
+            rows.moveToInsertRow();
+            rows.updateLong(1, 300000000000000000L + i);
+            rows.updateInt(2, i);
+            rows.updateString(3, "INSERT_TEST");
+            rows.insertRow();
+            rows.moveToCurrentRow();
+        }
+        mappedStatement = loadMappedStatement();
+        statement = (Statement) Proxy.newProxyInstance(RowMapperBenchmark.class.getClassLoader(), new Class[]{PreparedStatement.class}, new RowSetJdbcHandler());
+        sessionFactory = createSessionFactory();
+    }
+    
+    private void setColumn(final RowSetMetaDataImpl metaData, final int columnIndex, final String columnName, final int columnType) throws SQLException {
+        metaData.setColumnName(columnIndex, columnName);
+        metaData.setColumnLabel(columnIndex, columnName);
+        metaData.setColumnType(columnIndex, columnType);
+    }
+    
+    private MappedStatement loadMappedStatement() throws IOException {
+        Configuration configuration = new Configuration();
+        try (InputStream inputStream = Resources.getResourceAsStream(ORDER_MAPPER)) {
+            new XMLMapperBuilder(inputStream, configuration, ORDER_MAPPER, configuration.getSqlFragments()).parse();
+        }
+        return configuration.getMappedStatement(SELECT_ALL_STATEMENT);
+    }
+    
+    private SessionFactory createSessionFactory() {
+        org.hibernate.cfg.Configuration configuration = new org.hibernate.cfg.Configuration();
+        configuration.addAnnotatedClass(OrderEntity.class);
+        configuration.setProperty(AvailableSettings.DIALECT, MySQL5Dialect.class.getName());
+        configuration.setProperty("hibernate.temp.use_jdbc_metadata_defaults", Boolean.FALSE.toString());
+        DataSource dataSource = (DataSource) Proxy.newProxyInstance(RowMapperBenchmark.class.getClassLoader(), new Class[]{DataSource.class}, new RowSetJdbcHandler());
+        return configuration.buildSessionFactory(new StandardServiceRegistryBuilder().applySettings(configuration.getProperties()).applySetting(AvailableSettings.DATASOURCE, dataSource).build());
+    }
+    
+    @Setup(Level.Invocation)
+    public void copyRows() throws SQLException {
+        resultSet = rows.createCopy();
+        resultSet.beforeFirst();
+    }
+    
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+    }
+    
+    @Benchmark
+    public void mapByIndex(final Blackhole blackhole) throws SQLException {
+        while (resultSet.next()) {
+            Order order = new Order();
+            order.setOrderId(resultSet.getLong(1));
+            order.setUserId(resultSet.getInt(2));
+            order.setStatus(resultSet.getString(3));
+            blackhole.consume(order);
+        }
+    }
+    
+    @Benchmark
+    public void mapByRowMapper(final Blackhole blackhole) throws SQLException {
+        OrderRowMapper rowMapper = new OrderRowMapper(resultSet);
+        while (resultSet.next()) {
+            blackhole.consume(rowMapper.mapRow(resultSet));
+        }
+    }
+    
+    @Benchmark
+    public void mapByMybatisResultSetHandler(final Blackhole blackhole) throws SQLException {
+        blackhole.consume(new DefaultResultSetHandler(null, mappedStatement, null, null, null, RowBounds.DEFAULT).handleResultSets(statement));
+    }
+    
+    @Benchmark
+    public void mapByHibernate(final Blackhole blackhole) {
+        Session session = sessionFactory.openSession();
+        try {
+            blackhole.consume(session.createSQLQuery("SELECT * FROM t_order").addEntity(OrderEntity.class).list());
+        } finally {
+            session.close();
+        }
+    }
+    
+    private final class RowSetJdbcHandler implements InvocationHandler {
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) {
+            String methodName = method.getName();
+            if ("getConnection".equals(methodName)) {
+                return Proxy.newProxyInstance(RowMapperBenchmark.class.getClassLoader(), new Class[]{Connection.class}, this);
+            }
+            if (methodName.startsWith("prepareStatement")) {
+                return statement;
+            }
+            if ("executeQuery".equals(methodName) || "getResultSet".equals(methodName)) {
+                return resultSet;
+            }
+            if ("getAutoCommit".equals(methodName)) {
+                return true;
+            }
+            if ("getUpdateCount".equals(methodName)) {
+                return -1;
+            }
+            return getDefaultValue(method.getReturnType());
+        }
+        
+        private Object getDefaultValue(final Class<?> returnType) {
+            if (boolean.class == returnType) {
+                return false;
+            }
+            if (int.class == returnType) {
+                return 0;
+            }
+            if (long.class == returnType) {
+                return 0L;
+            }
+            return null;
+        }
+    }
+}
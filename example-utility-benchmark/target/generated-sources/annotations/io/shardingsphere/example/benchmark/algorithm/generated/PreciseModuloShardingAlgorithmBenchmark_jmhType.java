@@ -0,0 +1,4 @@
+package io.shardingsphere.example.benchmark.algorithm.generated;
+public class PreciseModuloShardingAlgorithmBenchmark_jmhType extends PreciseModuloShardingAlgorithmBenchmark_jmhType_B3 {
+}
+
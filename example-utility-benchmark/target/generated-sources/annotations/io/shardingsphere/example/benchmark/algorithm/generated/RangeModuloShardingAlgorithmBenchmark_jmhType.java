@@ -0,0 +1,4 @@
+package io.shardingsphere.example.benchmark.algorithm.generated;
+public class RangeModuloShardingAlgorithmBenchmark_jmhType extends RangeModuloShardingAlgorithmBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package io.shardingsphere.example.benchmark.keygen.generated;
+public class KeyGeneratorBenchmark_jmhType extends KeyGeneratorBenchmark_jmhType_B3 {
+}
+
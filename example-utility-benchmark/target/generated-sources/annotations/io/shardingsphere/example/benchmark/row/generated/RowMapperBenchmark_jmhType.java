@@ -0,0 +1,4 @@
+package io.shardingsphere.example.benchmark.row.generated;
+public class RowMapperBenchmark_jmhType extends RowMapperBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Consistent hash sharding database algorithm, can be used as both precise and range algorithm.
+ *
+ * <p>Virtual node count per database is read from `example.sharding.database.consistent-hash.virtual-nodes`, default is 160.
+ * Bounded ranges spanning less than `example.sharding.database.consistent-hash.range-enumeration-limit` values, default is 1024, are routed value by value,
+ * other ranges go to all databases.</p>
+ */
+public final class ConsistentHashShardingDatabaseAlgorithm implements PreciseShardingAlgorithm<Integer>, RangeShardingAlgorithm<Integer> {
+    
+    public static final String VIRTUAL_NODE_COUNT_KEY = "example.sharding.database.consistent-hash.virtual-nodes";
+    
+    public static final String RANGE_ENUMERATION_LIMIT_KEY = "example.sharding.database.consistent-hash.range-enumeration-limit";
+    
+    private final ConsistentHashShardingTargetRing targetRing;
+    
+    public ConsistentHashShardingDatabaseAlgorithm() {
+        this(System.getProperties());
+    }
+    
+    public ConsistentHashShardingDatabaseAlgorithm(final Properties props) {
+        targetRing = new ConsistentHashShardingTargetRing(props, VIRTUAL_NODE_COUNT_KEY, RANGE_ENUMERATION_LIMIT_KEY);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> databaseNames, final PreciseShardingValue<Integer> shardingValue) {
+        return targetRing.route(databaseNames, shardingValue.getValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> databaseNames, final RangeShardingValue<Integer> shardingValue) {
+        return targetRing.route(databaseNames, shardingValue.getValueRange());
+    }
+}
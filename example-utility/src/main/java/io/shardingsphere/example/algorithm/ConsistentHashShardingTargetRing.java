@@ -0,0 +1,199 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Route sharding value to target name by consistent hash ring with virtual nodes.
+ *
+ * <p>Ring positions only depend on target names, so adding a target relocates about `1/N` of the values.
+ * One immutable ring snapshot is built per distinct collection instance, lookups are lock-free binary searches over a primitive array.</p>
+ */
+final class ConsistentHashShardingTargetRing {
+    
+    private static final int DEFAULT_VIRTUAL_NODE_COUNT = 160;
+    
+    private static final long DEFAULT_RANGE_ENUMERATION_LIMIT = 1024L;
+    
+    private static final HashFunction NODE_HASH_FUNCTION = Hashing.murmur3_128();
+    
+    private final int virtualNodeCount;
+    
+    private final long rangeEnumerationLimit;
+    
+    private volatile Map<Collection<String>, Ring> rings = new IdentityHashMap<>();
+    
+    ConsistentHashShardingTargetRing(final Properties props, final String virtualNodeCountKey, final String rangeEnumerationLimitKey) {
+        String virtualNodeCountValue = props.getProperty(virtualNodeCountKey);
+        virtualNodeCount = null == virtualNodeCountValue ? DEFAULT_VIRTUAL_NODE_COUNT : Integer.parseInt(virtualNodeCountValue.trim());
+        Preconditions.checkArgument(virtualNodeCount > 0, "Virtual node count `%s` must be positive.", virtualNodeCountKey);
+        String rangeEnumerationLimitValue = props.getProperty(rangeEnumerationLimitKey);
+        rangeEnumerationLimit = null == rangeEnumerationLimitValue ? DEFAULT_RANGE_ENUMERATION_LIMIT : Long.parseLong(rangeEnumerationLimitValue.trim());
+    }
+    
+    String route(final Collection<String> targetNames, final long shardingValue) {
+        return getRing(targetNames).locate(hash(shardingValue));
+    }
+    
+    /**
+     * Route range value.
+     *
+     * <p>Hashing does not keep order, so only small bounded ranges are enumerated value by value, others go to all targets.</p>
+     */
+    Collection<String> route(final Collection<String> targetNames, final Range<? extends Comparable<?>> valueRange) {
+        if (!valueRange.hasLowerBound() || !valueRange.hasUpperBound()) {
+            return new LinkedHashSet<>(targetNames);
+        }
+        long lower = ((Number) valueRange.lowerEndpoint()).longValue();
+        long upper = ((Number) valueRange.upperEndpoint()).longValue();
+        if (BoundType.OPEN == valueRange.lowerBoundType()) {
+            if (Long.MAX_VALUE == lower) {
+                return new LinkedHashSet<>();
+            }
+            lower++;
+        }
+        if (BoundType.OPEN == valueRange.upperBoundType()) {
+            if (Long.MIN_VALUE == upper) {
+                return new LinkedHashSet<>();
+            }
+            upper--;
+        }
+        if (lower > upper) {
+            return new LinkedHashSet<>();
+        }
+        long span = upper - lower;
+        if (span < 0 || span >= rangeEnumerationLimit) {
+            return new LinkedHashSet<>(targetNames);
+        }
+        Ring ring = getRing(targetNames);
+        Set<String> result = new LinkedHashSet<>();
+        for (long each = lower; each <= upper && result.size() < ring.targetCount; each++) {
+            result.add(ring.locate(hash(each)));
+            if (Long.MAX_VALUE == each) {
+                break;
+            }
+        }
+        return result;
+    }
+    
+    private Ring getRing(final Collection<String> targetNames) {
+        Ring result = rings.get(targetNames);
+        if (null != result) {
+            return result;
+        }
+        synchronized (this) {
+            result = rings.get(targetNames);
+            if (null == result) {
+                result = new Ring(targetNames, virtualNodeCount);
+                Map<Collection<String>, Ring> newRings = new IdentityHashMap<>(rings);
+                newRings.put(targetNames, result);
+                rings = newRings;
+            }
+            return result;
+        }
+    }
+    
+    /**
+     * MurmurHash3 64-bit finalizer, spreads sequential and snowflake keys over the whole ring without allocation.
+     */
+    private static long hash(final long value) {
+        long result = value;
+        result ^= result >>> 33;
+        result *= 0xff51afd7ed558ccdL;
+        result ^= result >>> 33;
+        result *= 0xc4ceb9fe1a85ec53L;
+        result ^= result >>> 33;
+        return result;
+    }
+    
+    private static final class Ring {
+        
+        private final long[] positions;
+        
+        private final String[] targets;
+        
+        private final int targetCount;
+        
+        Ring(final Collection<String> targetNames, final int virtualNodeCount) {
+            Preconditions.checkArgument(!targetNames.isEmpty(), "Can not build consistent hash ring without targets.");
+            targetCount = targetNames.size();
+            long[] unsortedPositions = new long[targetCount * virtualNodeCount];
+            String[] unsortedTargets = new String[unsortedPositions.length];
+            int index = 0;
+            for (String each : targetNames) {
+                for (int i = 0; i < virtualNodeCount; i++) {
+                    unsortedPositions[index] = NODE_HASH_FUNCTION.hashString(each + "#" + i, Charsets.UTF_8).asLong();
+                    unsortedTargets[index] = each;
+                    index++;
+                }
+            }
+            Integer[] order = new Integer[unsortedPositions.length];
+            for (int i = 0; i < order.length; i++) {
+                order[i] = i;
+            }
+            Arrays.sort(order, new PositionComparator(unsortedPositions, unsortedTargets));
+            positions = new long[order.length];
+            targets = new String[order.length];
+            for (int i = 0; i < order.length; i++) {
+                positions[i] = unsortedPositions[order[i]];
+                targets[i] = unsortedTargets[order[i]];
+            }
+        }
+        
+        String locate(final long hash) {
+            int index = Arrays.binarySearch(positions, hash);
+            if (index < 0) {
+                index = -index - 1;
+            }
+            return targets[index == positions.length ? 0 : index];
+        }
+    }
+    
+    private static final class PositionComparator implements Comparator<Integer> {
+        
+        private final long[] positions;
+        
+        private final String[] targets;
+        
+        PositionComparator(final long[] positions, final String[] targets) {
+            this.positions = positions;
+            this.targets = targets;
+        }
+        
+        @Override
+        public int compare(final Integer o1, final Integer o2) {
+            int result = Long.compare(positions[o1], positions[o2]);
+            return 0 == result ? targets[o1].compareTo(targets[o2]) : result;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Interval sharding database algorithm, can be used as both precise and range algorithm.
+ *
+ * <p>Ascending interval boundaries are read from `example.sharding.database.interval.boundaries`, for example `6,11` routes
+ * values less than 6 to database with suffix 0, values in [6, 11) to suffix 1 and the rest to suffix 2.
+ * Range values are routed to overlapped databases only.</p>
+ */
+public final class IntervalShardingDatabaseAlgorithm implements PreciseShardingAlgorithm<Integer>, RangeShardingAlgorithm<Integer> {
+    
+    public static final String BOUNDARIES_KEY = "example.sharding.database.interval.boundaries";
+    
+    private final IntervalShardingTargetIndex targetIndex;
+    
+    public IntervalShardingDatabaseAlgorithm() {
+        this(System.getProperties());
+    }
+    
+    public IntervalShardingDatabaseAlgorithm(final Properties props) {
+        targetIndex = new IntervalShardingTargetIndex(props, BOUNDARIES_KEY);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> databaseNames, final PreciseShardingValue<Integer> shardingValue) {
+        return targetIndex.route(databaseNames, shardingValue.getValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> databaseNames, final RangeShardingValue<Integer> shardingValue) {
+        return targetIndex.route(databaseNames, shardingValue.getValueRange());
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.RangeShardingValue;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Interval sharding table algorithm, can be used as both precise and range algorithm.
+ *
+ * <p>Ascending interval boundaries are read from `example.sharding.table.interval.boundaries`, for example `6,11` routes
+ * values less than 6 to table with suffix 0, values in [6, 11) to suffix 1 and the rest to suffix 2.
+ * Range values are routed to overlapped tables only.</p>
+ */
+public final class IntervalShardingTableAlgorithm implements PreciseShardingAlgorithm<Long>, RangeShardingAlgorithm<Long> {
+    
+    public static final String BOUNDARIES_KEY = "example.sharding.table.interval.boundaries";
+    
+    private final IntervalShardingTargetIndex targetIndex;
+    
+    public IntervalShardingTableAlgorithm() {
+        this(System.getProperties());
+    }
+    
+    public IntervalShardingTableAlgorithm(final Properties props) {
+        targetIndex = new IntervalShardingTargetIndex(props, BOUNDARIES_KEY);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> tableNames, final PreciseShardingValue<Long> shardingValue) {
+        return targetIndex.route(tableNames, shardingValue.getValue());
+    }
+    
+    @Override
+    public Collection<String> doSharding(final Collection<String> tableNames, final RangeShardingValue<Long> shardingValue) {
+        return targetIndex.route(tableNames, shardingValue.getValueRange());
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.BoundType;
+import com.google.common.collect.Range;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Route sharding value to target name by configured interval boundaries and numeric suffix of target name.
+ *
+ * <p>Boundaries `b0,b1,...,bn` split values into partitions `(-inf, b0)`, `[b0, b1)`, ..., `[bn, +inf)`,
+ * partition `i` is routed to the target whose name ends with `i`.
+ * Boundaries are held in a sorted primitive array, so a value or a range is located by binary search.</p>
+ */
+final class IntervalShardingTargetIndex {
+    
+    private final long[] boundaries;
+    
+    private final ShardingTargetSuffixIndex suffixIndex = new ShardingTargetSuffixIndex();
+    
+    IntervalShardingTargetIndex(final Properties props, final String boundariesKey) {
+        String value = props.getProperty(boundariesKey);
+        Preconditions.checkArgument(null != value && !value.trim().isEmpty(), "Interval boundaries `%s` is required.", boundariesKey);
+        String[] segments = value.split(",");
+        boundaries = new long[segments.length];
+        for (int i = 0; i < segments.length; i++) {
+            boundaries[i] = Long.parseLong(segments[i].trim());
+            Preconditions.checkArgument(0 == i || boundaries[i] > boundaries[i - 1], "Interval boundaries `%s` must be strictly ascending.", boundariesKey);
+        }
+    }
+    
+    String route(final Collection<String> targetNames, final long shardingValue) {
+        return getTarget(targetNames, suffixIndex.getTargets(targetNames), getPartition(shardingValue));
+    }
+    
+    Collection<String> route(final Collection<String> targetNames, final Range<? extends Comparable<?>> valueRange) {
+        long lower = Long.MIN_VALUE;
+        if (valueRange.hasLowerBound()) {
+            lower = ((Number) valueRange.lowerEndpoint()).longValue();
+            if (BoundType.OPEN == valueRange.lowerBoundType()) {
+                if (Long.MAX_VALUE == lower) {
+                    return Collections.emptySet();
+                }
+                lower++;
+            }
+        }
+        long upper = Long.MAX_VALUE;
+        if (valueRange.hasUpperBound()) {
+            upper = ((Number) valueRange.upperEndpoint()).longValue();
+            if (BoundType.OPEN == valueRange.upperBoundType()) {
+                if (Long.MIN_VALUE == upper) {
+                    return Collections.emptySet();
+                }
+                upper--;
+            }
+        }
+        if (lower > upper) {
+            return Collections.emptySet();
+        }
+        ShardingTargetSuffixIndex.Targets targets = suffixIndex.getTargets(targetNames);
+        int lowerPartition = getPartition(lower);
+        int upperPartition = getPartition(upper);
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = lowerPartition; i <= upperPartition; i++) {
+            result.add(getTarget(targetNames, targets, i));
+        }
+        return result;
+    }
+    
+    private int getPartition(final long value) {
+        int index = Arrays.binarySearch(boundaries, value);
+        return index >= 0 ? index + 1 : -index - 1;
+    }
+    
+    private String getTarget(final Collection<String> targetNames, final ShardingTargetSuffixIndex.Targets targets, final int partition) {
+        String result = targets.get(partition);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Can not find target with suffix `%s` in %s.", partition, targetNames));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Route sharding value to target name by modulo and numeric suffix of target name.
+ *
+ * <p>Modulus is sharding count if configured, otherwise count of targets with numeric suffix.
+ * Routing a value is one modulo and one suffix lookup without any allocation.</p>
+ */
+final class ModuloShardingTargetIndex {
+    
+    private final int shardingCount;
+    
+    private final ShardingTargetSuffixIndex suffixIndex = new ShardingTargetSuffixIndex();
+    
+    ModuloShardingTargetIndex(final Properties props, final String shardingCountKey) {
+        String value = props.getProperty(shardingCountKey);
+        shardingCount = null == value ? 0 : Integer.parseInt(value.trim());
+        if (shardingCount < 0) {
+            throw new IllegalArgumentException(String.format("Sharding count of `%s` must be positive.", shardingCountKey));
+        }
+    }
+    
+    String route(final Collection<String> targetNames, final long shardingValue) {
+        ShardingTargetSuffixIndex.Targets targets = suffixIndex.getTargets(targetNames);
+        int modulus = 0 == shardingCount ? targets.size() : shardingCount;
+        if (0 == modulus) {
+            throw new UnsupportedOperationException(String.format("Can not find any target with numeric suffix in %s.", targetNames));
+        }
+        int index = (int) (shardingValue % modulus);
+        if (index < 0) {
+            index += modulus;
+        }
+        String result = targets.get(index);
+        if (null == result) {
+            throw new UnsupportedOperationException(String.format("Can not find target with suffix `%s` in %s.", index, targetNames));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+
+import java.util.Collection;
+import java.util.Properties;
+
+/**
+ * Precise modulo sharding database algorithm with precomputed database index.
+ *
+ * <p>Sharding count is read from `example.sharding.database.count`, default is count of actual databases.</p>
+ */
+public final class PreciseIndexedModuloShardingDatabaseAlgorithm implements PreciseShardingAlgorithm<Integer> {
+    
+    public static final String SHARDING_COUNT_KEY = "example.sharding.database.count";
+    
+    private final ModuloShardingTargetIndex targetIndex;
+    
+    public PreciseIndexedModuloShardingDatabaseAlgorithm() {
+        this(System.getProperties());
+    }
+    
+    public PreciseIndexedModuloShardingDatabaseAlgorithm(final Properties props) {
+        targetIndex = new ModuloShardingTargetIndex(props, SHARDING_COUNT_KEY);
+    }
+    
+    @Override
+    public String doSharding(final Collection<String> databaseNames, final PreciseShardingValue<Integer> shardingValue) {
+        return targetIndex.route(databaseNames, shardingValue.getValue());
+    }
+}
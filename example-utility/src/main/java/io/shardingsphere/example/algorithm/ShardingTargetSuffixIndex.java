@@ -0,0 +1,138 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.algorithm;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Target names indexed by their numeric suffix.
+ *
+ * <p>Target names are parsed once per distinct collection instance, lookups afterwards are lock-free and allocation-free.</p>
+ */
+final class ShardingTargetSuffixIndex {
+    
+    private volatile Map<Collection<String>, Targets> indexes = new IdentityHashMap<>();
+    
+    /**
+     * Get target names indexed by numeric suffix.
+     *
+     * @param targetNames available target names
+     * @return targets indexed by numeric suffix
+     */
+    Targets getTargets(final Collection<String> targetNames) {
+        Targets result = indexes.get(targetNames);
+        if (null != result) {
+            return result;
+        }
+        synchronized (this) {
+            result = indexes.get(targetNames);
+            if (null == result) {
+                result = new Targets(targetNames);
+                Map<Collection<String>, Targets> newIndexes = new IdentityHashMap<>(indexes);
+                newIndexes.put(targetNames, result);
+                indexes = newIndexes;
+            }
+            return result;
+        }
+    }
+    
+    private static int parseSuffix(final String targetName) {
+        int begin = targetName.length();
+        while (begin > 0 && Character.isDigit(targetName.charAt(begin - 1))) {
+            begin--;
+        }
+        if (begin == targetName.length() || targetName.length() - begin > 9) {
+            return -1;
+        }
+        return Integer.parseInt(targetName.substring(begin));
+    }
+    
+    /**
+     * Target names with numeric suffix.
+     *
+     * <p>Suffixes up to {@link #DENSE_FACTOR} times of target count are held in an array indexed by suffix,
+     * sparse suffixes such as `201901` are held in sorted arrays and located by binary search.</p>
+     */
+    static final class Targets {
+        
+        private static final int DENSE_FACTOR = 4;
+        
+        private final int[] suffixes;
+        
+        private final String[] names;
+        
+        private final String[] denseNames;
+        
+        private Targets(final Collection<String> targetNames) {
+            TreeMap<Integer, String> sortedTargets = new TreeMap<>();
+            for (String each : targetNames) {
+                int suffix = parseSuffix(each);
+                if (suffix >= 0 && !sortedTargets.containsKey(suffix)) {
+                    sortedTargets.put(suffix, each);
+                }
+            }
+            suffixes = new int[sortedTargets.size()];
+            names = new String[sortedTargets.size()];
+            int index = 0;
+            for (Map.Entry<Integer, String> entry : sortedTargets.entrySet()) {
+                suffixes[index] = entry.getKey();
+                names[index] = entry.getValue();
+                index++;
+            }
+            denseNames = 0 == suffixes.length || suffixes[suffixes.length - 1] >= DENSE_FACTOR * suffixes.length ? null : createDenseNames();
+        }
+        
+        private String[] createDenseNames() {
+            String[] result = new String[suffixes[suffixes.length - 1] + 1];
+            for (int i = 0; i < suffixes.length; i++) {
+                result[suffixes[i]] = names[i];
+            }
+            return result;
+        }
+        
+        /**
+         * Get count of targets with numeric suffix.
+         *
+         * @return count of targets
+         */
+        int size() {
+            return suffixes.length;
+        }
+        
+        /**
+         * Get target name by suffix.
+         *
+         * @param suffix numeric suffix
+         * @return target name ending with suffix, or null if absent
+         */
+        String get(final long suffix) {
+            if (suffix < 0 || suffix > Integer.MAX_VALUE) {
+                return null;
+            }
+            if (null != denseNames) {
+                return suffix < denseNames.length ? denseNames[(int) suffix] : null;
+            }
+            int index = Arrays.binarySearch(suffixes, (int) suffix);
+            return index < 0 ? null : names[index];
+        }
+    }
+}
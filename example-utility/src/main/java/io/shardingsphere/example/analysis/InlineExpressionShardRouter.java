@@ -0,0 +1,48 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.analysis;
+
+import groovy.lang.Closure;
+import groovy.util.Expando;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+
+/**
+ * Route sharding key by inline expression, the same way inline sharding strategy does.
+ *
+ * <p>Both {@code ${...}} and {@code $->{...}} placeholders are accepted.
+ * Expression is parsed once, and every route rehydrates its own closure like inline sharding strategy, so this router is thread safe.</p>
+ */
+public final class InlineExpressionShardRouter implements ShardRouter {
+    
+    private final String column;
+    
+    private final Closure<?> closure;
+    
+    public InlineExpressionShardRouter(final String expression, final String column) {
+        this.column = column;
+        closure = new InlineExpressionParser(expression.replace("$->{", "${")).evaluateClosure();
+    }
+    
+    @Override
+    public String route(final Comparable<?> key) {
+        Closure<?> routeClosure = closure.rehydrate(new Expando(), null, null);
+        routeClosure.setResolveStrategy(Closure.DELEGATE_ONLY);
+        routeClosure.setProperty(column, key);
+        return routeClosure.call().toString();
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.analysis;
+
+import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Generate sharding keys by key generator and count how they are distributed over shards.
+ *
+ * <p>Keys can be generated at a target rate, because low bits of snowflake keys depend on how many keys are generated per millisecond.</p>
+ *
+ * <p>Usage: {@code --expression=t_order_${order_id % 2} --column=order_id} or {@code --algorithm=<class> --targets=t_order_0,t_order_1},
+ * optional {@code --keys=1000000 --rate=0 --key-generator=SNOWFLAKE --logic-table=t_order}, key generator properties are given as {@code --key-generator.<name>=<value>}.</p>
+ */
+public final class KeyDistributionAnalyzer {
+    
+    private static final String KEY_GENERATOR_PROPERTY_PREFIX = "key-generator.";
+    
+    private final ShardRouter router;
+    
+    private final ShardingKeyGenerator keyGenerator;
+    
+    public KeyDistributionAnalyzer(final ShardRouter router, final ShardingKeyGenerator keyGenerator) {
+        this.router = router;
+        this.keyGenerator = keyGenerator;
+    }
+    
+    /**
+     * Analyze key distribution.
+     *
+     * @param keyCount count of keys to generate
+     * @param keysPerSecond rate of key generation, 0 means as fast as possible
+     * @param targets expected shards, reported even when no key goes to them
+     * @return key distribution report
+     */
+    public KeyDistributionReport analyze(final long keyCount, final long keysPerSecond, final Collection<String> targets) {
+        Map<String, long[]> counts = new LinkedHashMap<>();
+        for (String each : targets) {
+            counts.put(each, new long[1]);
+        }
+        long startNanos = System.nanoTime();
+        for (long i = 0; i < keyCount; i++) {
+            if (keysPerSecond > 0) {
+                waitUntil(startNanos + TimeUnit.SECONDS.toNanos(i) / keysPerSecond);
+            }
+            String shard = router.route(keyGenerator.generateKey());
+            long[] count = counts.get(shard);
+            if (null == count) {
+                count = new long[1];
+                counts.put(shard, count);
+            }
+            count[0]++;
+        }
+        Map<String, Long> result = new LinkedHashMap<>(counts.size(), 1);
+        for (Map.Entry<String, long[]> entry : counts.entrySet()) {
+            result.put(entry.getKey(), entry.getValue()[0]);
+        }
+        return new KeyDistributionReport(result);
+    }
+    
+    private void waitUntil(final long intendedNanos) {
+        long remainingNanos = intendedNanos - System.nanoTime();
+        while (remainingNanos > 0) {
+            LockSupport.parkNanos(remainingNanos);
+            remainingNanos = intendedNanos - System.nanoTime();
+        }
+    }
+    
+    public static void main(final String[] args) throws ReflectiveOperationException {
+        Properties options = parseOptions(args);
+        String targetsValue = options.getProperty("targets");
+        Collection<String> targets = null == targetsValue ? Collections.<String>emptyList() : Arrays.asList(targetsValue.split(","));
+        String column = options.getProperty("column", "order_id");
+        ShardRouter router;
+        if (options.containsKey("expression")) {
+            router = new InlineExpressionShardRouter(options.getProperty("expression"), column);
+        } else if (options.containsKey("algorithm")) {
+            router = new PreciseAlgorithmShardRouter(PreciseAlgorithmShardRouter.newAlgorithm(options.getProperty("algorithm")), targets, options.getProperty("logic-table", "t_order"), column);
+        } else {
+            throw new IllegalArgumentException("Either `--expression` or `--algorithm` is required.");
+        }
+        ShardingKeyGenerator keyGenerator = loadKeyGenerator(options.getProperty("key-generator", "SNOWFLAKE"), getKeyGeneratorProperties(options));
+        KeyDistributionReport report = new KeyDistributionAnalyzer(router, keyGenerator).analyze(
+                Long.parseLong(options.getProperty("keys", "1000000")), Long.parseLong(options.getProperty("rate", "0")), targets);
+        System.out.print(report);
+    }
+    
+    private static Properties parseOptions(final String[] args) {
+        Properties result = new Properties();
+        for (String each : args) {
+            int index = each.indexOf('=');
+            if (!each.startsWith("--") || index < 0) {
+                throw new IllegalArgumentException(String.format("Option `%s` must be `--name=value`.", each));
+            }
+            result.setProperty(each.substring(2, index), each.substring(index + 1));
+        }
+        return result;
+    }
+    
+    private static Properties getKeyGeneratorProperties(final Properties options) {
+        Properties result = new Properties();
+        for (String each : options.stringPropertyNames()) {
+            if (each.startsWith(KEY_GENERATOR_PROPERTY_PREFIX)) {
+                result.setProperty(each.substring(KEY_GENERATOR_PROPERTY_PREFIX.length()), options.getProperty(each));
+            }
+        }
+        return result;
+    }
+    
+    private static ShardingKeyGenerator loadKeyGenerator(final String type, final Properties props) {
+        for (ShardingKeyGenerator each : ServiceLoader.load(ShardingKeyGenerator.class)) {
+            if (type.equalsIgnoreCase(each.getType())) {
+                each.setProperties(props);
+                return each;
+            }
+        }
+        throw new IllegalArgumentException(String.format("Can not find key generator of type `%s`.", type));
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.analysis;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Distribution of sharding keys over shards.
+ *
+ * <p>Chi-square is against uniform distribution, shards are accepted as uniform when it is below critical value of significance 0.001,
+ * approximated by Wilson-Hilferty transformation.</p>
+ */
+public final class KeyDistributionReport {
+    
+    private static final double Z_999 = 3.0902;
+    
+    private static final int HISTOGRAM_WIDTH = 50;
+    
+    private final Map<String, Long> counts;
+    
+    private final long total;
+    
+    private final long max;
+    
+    private final long min;
+    
+    private final double chiSquare;
+    
+    private final double criticalChiSquare;
+    
+    KeyDistributionReport(final Map<String, Long> counts) {
+        this.counts = Collections.unmodifiableMap(new LinkedHashMap<>(counts));
+        long total = 0;
+        long max = 0;
+        long min = Long.MAX_VALUE;
+        for (long each : counts.values()) {
+            total += each;
+            max = Math.max(max, each);
+            min = Math.min(min, each);
+        }
+        this.total = total;
+        this.max = max;
+        this.min = counts.isEmpty() ? 0 : min;
+        double expected = getMean();
+        double chiSquare = 0;
+        for (long each : counts.values()) {
+            chiSquare += (each - expected) * (each - expected) / expected;
+        }
+        this.chiSquare = 0 == total ? 0 : chiSquare;
+        int degreesOfFreedom = getDegreesOfFreedom();
+        criticalChiSquare = 0 == degreesOfFreedom ? 0 : degreesOfFreedom * Math.pow(1 - 2D / (9 * degreesOfFreedom) + Z_999 * Math.sqrt(2D / (9 * degreesOfFreedom)), 3);
+    }
+    
+    public Map<String, Long> getCounts() {
+        return counts;
+    }
+    
+    public long getTotal() {
+        return total;
+    }
+    
+    public double getMean() {
+        return counts.isEmpty() ? 0 : (double) total / counts.size();
+    }
+    
+    public long getMax() {
+        return max;
+    }
+    
+    public long getMin() {
+        return min;
+    }
+    
+    /**
+     * Get skew, max count divided by mean count, 1 means perfectly even.
+     *
+     * @return skew
+     */
+    public double getSkew() {
+        return 0 == total ? 0 : max / getMean();
+    }
+    
+    public double getChiSquare() {
+        return chiSquare;
+    }
+    
+    public int getDegreesOfFreedom() {
+        return Math.max(0, counts.size() - 1);
+    }
+    
+    public double getCriticalChiSquare() {
+        return criticalChiSquare;
+    }
+    
+    public boolean isUniform() {
+        return chiSquare <= criticalChiSquare;
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder();
+        for (Map.Entry<String, Long> entry : counts.entrySet()) {
+            int width = 0 == max ? 0 : (int) (entry.getValue() * HISTOGRAM_WIDTH / max);
+            result.append(String.format("%-24s %12d ", entry.getKey(), entry.getValue()));
+            for (int i = 0; i < width; i++) {
+                result.append('#');
+            }
+            result.append(System.lineSeparator());
+        }
+        result.append(String.format("total: %d, mean: %.1f, min: %d, max: %d, skew: %.3f%n", total, getMean(), min, max, getSkew()));
+        result.append(String.format("chi-square: %.2f, degrees of freedom: %d, critical value (p=0.001): %.2f, uniform: %s%n", chiSquare, getDegreesOfFreedom(), criticalChiSquare, isUniform()));
+        return result.toString();
+    }
+}
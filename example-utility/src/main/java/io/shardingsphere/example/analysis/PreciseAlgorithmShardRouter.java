@@ -0,0 +1,61 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.analysis;
+
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingValue;
+
+import java.util.Collection;
+
+/**
+ * Route sharding key by precise sharding algorithm.
+ */
+public final class PreciseAlgorithmShardRouter implements ShardRouter {
+    
+    private final PreciseShardingAlgorithm<Comparable<?>> algorithm;
+    
+    private final Collection<String> targets;
+    
+    private final String logicTable;
+    
+    private final String column;
+    
+    public PreciseAlgorithmShardRouter(final PreciseShardingAlgorithm<Comparable<?>> algorithm, final Collection<String> targets, final String logicTable, final String column) {
+        this.algorithm = algorithm;
+        this.targets = targets;
+        this.logicTable = logicTable;
+        this.column = column;
+    }
+    
+    /**
+     * Create precise sharding algorithm by class name, sharding values of any type are routed to it as ShardingSphere does.
+     *
+     * @param algorithmClassName class name of precise sharding algorithm
+     * @return precise sharding algorithm
+     * @throws ReflectiveOperationException reflective operation exception
+     */
+    @SuppressWarnings("unchecked")
+    public static PreciseShardingAlgorithm<Comparable<?>> newAlgorithm(final String algorithmClassName) throws ReflectiveOperationException {
+        return (PreciseShardingAlgorithm<Comparable<?>>) Class.forName(algorithmClassName).newInstance();
+    }
+    
+    @Override
+    public String route(final Comparable<?> key) {
+        return algorithm.doSharding(targets, new PreciseShardingValue<Comparable<?>>(logicTable, column, key));
+    }
+}
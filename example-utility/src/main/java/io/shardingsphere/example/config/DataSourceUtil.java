@@ -18,11 +18,14 @@
 package io.shardingsphere.example.config;
 
 import com.zaxxer.hikari.HikariDataSource;
+import io.shardingsphere.example.metrics.InstrumentedDataSource;
 
 import javax.sql.DataSource;
 
 public class DataSourceUtil {
     
+    private static final String METRICS_ENABLED_KEY = "example.metrics.enabled";
+    
     private static final String HOST = "localhost";
     
     private static final int PORT = 3306;
@@ -32,7 +35,7 @@ public class DataSourceUtil {
     private static final String PASSWORD = "";
     
     public static DataSource createDataSource(final String dataSourceName) {
-        HikariDataSource result = new HikariDataSource();
+        HikariDataSource result = Boolean.getBoolean(METRICS_ENABLED_KEY) ? new InstrumentedDataSource() : new HikariDataSource();
         result.setDriverClassName(com.mysql.jdbc.Driver.class.getName());
         result.setJdbcUrl(String.format("jdbc:mysql://%s:%s/%s", HOST, PORT, dataSourceName));
         result.setUsername(USER_NAME);
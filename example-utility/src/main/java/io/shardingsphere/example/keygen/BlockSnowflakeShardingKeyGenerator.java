@@ -0,0 +1,179 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.keygen;
+
+import org.apache.shardingsphere.spi.keygen.ShardingKeyGenerator;
+
+import java.util.Calendar;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake key generator handing out per-thread blocks of sequence.
+ *
+ * <p>Key layout is the same as snowflake: 41 bits of milliseconds since epoch, 10 bits of `worker.id` and 12 bits of sequence.
+ * Threads reserve `block.size` sequences of current millisecond by one CAS and then generate keys from their own block, so the CAS is shared by a block instead of every key.
+ * Sequence space is not widened, all threads still share 4096 keys per millisecond of a worker id,
+ * once they are reserved threads spin until next millisecond, so throughput under many threads is capped by that limit rather than the CAS.
+ * A block is dropped once it is older than `max.block.age.milliseconds`, so keys stay time ordered within that age.
+ * The first block of every millisecond starts at a random sequence in [0, `max.vibration.offset`] like snowflake's vibration,
+ * otherwise keys of a low rate would mostly start blocks at even sequences and skew modulo sharding.</p>
+ */
+public final class BlockSnowflakeShardingKeyGenerator implements ShardingKeyGenerator {
+    
+    public static final long EPOCH;
+    
+    private static final String WORKER_ID_KEY = "worker.id";
+    
+    private static final String BLOCK_SIZE_KEY = "block.size";
+    
+    private static final String MAX_BLOCK_AGE_MILLISECONDS_KEY = "max.block.age.milliseconds";
+    
+    private static final String MAX_VIBRATION_OFFSET_KEY = "max.vibration.offset";
+    
+    private static final int SEQUENCE_BITS = 12;
+    
+    private static final int WORKER_ID_BITS = 10;
+    
+    private static final int SEQUENCE_LIMIT = 1 << SEQUENCE_BITS;
+    
+    private static final int RESERVED_SEQUENCE_BITS = SEQUENCE_BITS + 1;
+    
+    private static final long RESERVED_SEQUENCE_MASK = (1L << RESERVED_SEQUENCE_BITS) - 1;
+    
+    private static final int DEFAULT_BLOCK_SIZE = 256;
+    
+    private static final long DEFAULT_MAX_BLOCK_AGE_MILLISECONDS = 1L;
+    
+    private static final long DEFAULT_MAX_VIBRATION_OFFSET = 1L;
+    
+    private final AtomicLong reserved = new AtomicLong();
+    
+    private final ThreadLocal<SequenceBlock> blocks = new ThreadLocal<SequenceBlock>() {
+        
+        @Override
+        protected SequenceBlock initialValue() {
+            return new SequenceBlock();
+        }
+    };
+    
+    private volatile Properties properties = new Properties();
+    
+    private volatile long workerId;
+    
+    private volatile int blockSize = DEFAULT_BLOCK_SIZE;
+    
+    private volatile long maxBlockAgeMilliseconds = DEFAULT_MAX_BLOCK_AGE_MILLISECONDS;
+    
+    private volatile int maxVibrationOffset = (int) DEFAULT_MAX_VIBRATION_OFFSET;
+    
+    static {
+        Calendar calendar = Calendar.getInstance();
+        calendar.set(2016, Calendar.NOVEMBER, 1);
+        calendar.set(Calendar.HOUR_OF_DAY, 0);
+        calendar.set(Calendar.MINUTE, 0);
+        calendar.set(Calendar.SECOND, 0);
+        calendar.set(Calendar.MILLISECOND, 0);
+        EPOCH = calendar.getTimeInMillis();
+    }
+    
+    @Override
+    public String getType() {
+        return "SNOWFLAKE_BLOCK";
+    }
+    
+    @Override
+    public Properties getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        long workerId = getLongProperty(properties, WORKER_ID_KEY, 0L);
+        long blockSize = getLongProperty(properties, BLOCK_SIZE_KEY, DEFAULT_BLOCK_SIZE);
+        long maxBlockAgeMilliseconds = getLongProperty(properties, MAX_BLOCK_AGE_MILLISECONDS_KEY, DEFAULT_MAX_BLOCK_AGE_MILLISECONDS);
+        long maxVibrationOffset = getLongProperty(properties, MAX_VIBRATION_OFFSET_KEY, DEFAULT_MAX_VIBRATION_OFFSET);
+        if (workerId < 0 || workerId >= 1L << WORKER_ID_BITS) {
+            throw new IllegalArgumentException(String.format("Worker id `%s` must be in [0, %s).", workerId, 1L << WORKER_ID_BITS));
+        }
+        if (blockSize <= 0 || blockSize > SEQUENCE_LIMIT) {
+            throw new IllegalArgumentException(String.format("Block size `%s` must be in [1, %s].", blockSize, SEQUENCE_LIMIT));
+        }
+        if (maxBlockAgeMilliseconds < 0) {
+            throw new IllegalArgumentException(String.format("Max block age `%s` must not be negative.", maxBlockAgeMilliseconds));
+        }
+        if (maxVibrationOffset < 0 || maxVibrationOffset >= SEQUENCE_LIMIT) {
+            throw new IllegalArgumentException(String.format("Max vibration offset `%s` must be in [0, %s).", maxVibrationOffset, SEQUENCE_LIMIT));
+        }
+        this.properties = properties;
+        this.workerId = workerId;
+        this.blockSize = (int) blockSize;
+        this.maxBlockAgeMilliseconds = maxBlockAgeMilliseconds;
+        this.maxVibrationOffset = (int) maxVibrationOffset;
+    }
+    
+    private long getLongProperty(final Properties properties, final String key, final long defaultValue) {
+        Object value = properties.get(key);
+        return null == value ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+    
+    @Override
+    public Comparable<?> generateKey() {
+        SequenceBlock block = blocks.get();
+        if (block.next >= block.end || System.currentTimeMillis() - block.milliseconds > maxBlockAgeMilliseconds) {
+            reserve(block);
+        }
+        return (block.milliseconds - EPOCH) << (WORKER_ID_BITS + SEQUENCE_BITS) | workerId << SEQUENCE_BITS | block.next++;
+    }
+    
+    /**
+     * Reserve next block, reserved state is milliseconds shifted left followed by next free sequence of that millisecond.
+     * Milliseconds never go back even if clock does, so blocks never overlap.
+     * First block of a new millisecond starts at a random vibration offset.
+     */
+    private void reserve(final SequenceBlock block) {
+        while (true) {
+            long current = reserved.get();
+            long reservedMilliseconds = current >>> RESERVED_SEQUENCE_BITS;
+            long now = System.currentTimeMillis();
+            long milliseconds = now > reservedMilliseconds ? now : reservedMilliseconds;
+            int start = now > reservedMilliseconds ? ThreadLocalRandom.current().nextInt(maxVibrationOffset + 1) : (int) (current & RESERVED_SEQUENCE_MASK);
+            if (SEQUENCE_LIMIT == start) {
+                Thread.yield();
+                continue;
+            }
+            int end = Math.min(start + blockSize, SEQUENCE_LIMIT);
+            if (reserved.compareAndSet(current, milliseconds << RESERVED_SEQUENCE_BITS | end)) {
+                block.milliseconds = milliseconds;
+                block.next = start;
+                block.end = end;
+                return;
+            }
+        }
+    }
+    
+    private static final class SequenceBlock {
+        
+        private long milliseconds;
+        
+        private int next;
+        
+        private int end;
+    }
+}
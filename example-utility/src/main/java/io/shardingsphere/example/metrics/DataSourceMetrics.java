@@ -0,0 +1,194 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of one physical data source.
+ *
+ * <p>Recording is lock-free, counters are atomic longs and histograms are HdrHistogram concurrent histograms.
+ * Readers work on a copy, so a JMX poll never blocks statements.</p>
+ */
+public final class DataSourceMetrics implements DataSourceMetricsMBean {
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private final String dataSourceName;
+    
+    private final AtomicLong errorCount = new AtomicLong();
+    
+    private final AtomicLong rowsReturned = new AtomicLong();
+    
+    private final AtomicLong rowsAffected = new AtomicLong();
+    
+    private final ConcurrentHistogram statementLatency = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    
+    private final ConcurrentHistogram acquireWait = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    
+    public DataSourceMetrics(final String dataSourceName) {
+        this.dataSourceName = dataSourceName;
+    }
+    
+    public String getDataSourceName() {
+        return dataSourceName;
+    }
+    
+    /**
+     * Record latency of one statement execution.
+     *
+     * @param elapsedNanos elapsed nano time
+     */
+    public void recordStatement(final long elapsedNanos) {
+        statementLatency.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    /**
+     * Record wait time of one connection acquisition.
+     *
+     * @param elapsedNanos elapsed nano time
+     */
+    public void recordAcquire(final long elapsedNanos) {
+        acquireWait.recordValue(TimeUnit.NANOSECONDS.toMicros(elapsedNanos));
+    }
+    
+    /**
+     * Record one failed statement or connection acquisition.
+     */
+    public void recordError() {
+        errorCount.incrementAndGet();
+    }
+    
+    /**
+     * Record rows read from result set.
+     *
+     * @param rows row count
+     */
+    public void recordRowsReturned(final long rows) {
+        rowsReturned.addAndGet(rows);
+    }
+    
+    /**
+     * Record rows changed by update or batch.
+     *
+     * @param rows row count
+     */
+    public void recordRowsAffected(final long rows) {
+        rowsAffected.addAndGet(rows);
+    }
+    
+    @Override
+    public long getStatementCount() {
+        return statementLatency.getTotalCount();
+    }
+    
+    @Override
+    public long getErrorCount() {
+        return errorCount.get();
+    }
+    
+    @Override
+    public long getRowsReturned() {
+        return rowsReturned.get();
+    }
+    
+    @Override
+    public long getRowsAffected() {
+        return rowsAffected.get();
+    }
+    
+    @Override
+    public long getStatementLatencyP50() {
+        return statementLatency.copy().getValueAtPercentile(50);
+    }
+    
+    @Override
+    public long getStatementLatencyP99() {
+        return statementLatency.copy().getValueAtPercentile(99);
+    }
+    
+    @Override
+    public long getStatementLatencyP999() {
+        return statementLatency.copy().getValueAtPercentile(99.9);
+    }
+    
+    @Override
+    public long getStatementLatencyMax() {
+        return statementLatency.copy().getMaxValue();
+    }
+    
+    @Override
+    public double getStatementLatencyMean() {
+        return statementLatency.copy().getMean();
+    }
+    
+    @Override
+    public long getConnectionAcquireCount() {
+        return acquireWait.getTotalCount();
+    }
+    
+    @Override
+    public long getConnectionAcquireWaitP99() {
+        return acquireWait.copy().getValueAtPercentile(99);
+    }
+    
+    @Override
+    public long getConnectionAcquireWaitMax() {
+        return acquireWait.copy().getMaxValue();
+    }
+    
+    @Override
+    public byte[] getConnectionAcquireWaitHistogram() {
+        Histogram snapshot = acquireWait.copy();
+        ByteBuffer buffer = ByteBuffer.allocate(snapshot.getNeededByteBufferCapacity());
+        int length = snapshot.encodeIntoCompressedByteBuffer(buffer);
+        return Arrays.copyOf(buffer.array(), length);
+    }
+    
+    /**
+     * Get copy of statement latency histogram in microseconds.
+     *
+     * @return statement latency histogram
+     */
+    public Histogram getStatementLatencySnapshot() {
+        return statementLatency.copy();
+    }
+    
+    @Override
+    public void reset() {
+        errorCount.set(0);
+        rowsReturned.set(0);
+        rowsAffected.set(0);
+        statementLatency.reset();
+        acquireWait.reset();
+    }
+    
+    @Override
+    public String toString() {
+        Histogram latency = statementLatency.copy();
+        return String.format("%s: statements=%d, errors=%d, rows_returned=%d, rows_affected=%d, p50=%dus, p99=%dus, p99.9=%dus, max=%dus, acquire_p99=%dus",
+                dataSourceName, latency.getTotalCount(), errorCount.get(), rowsReturned.get(), rowsAffected.get(), latency.getValueAtPercentile(50),
+                latency.getValueAtPercentile(99), latency.getValueAtPercentile(99.9), latency.getMaxValue(), getConnectionAcquireWaitP99());
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.metrics;
+
+/**
+ * JMX view of data source metrics, latencies are in microseconds.
+ */
+public interface DataSourceMetricsMBean {
+    
+    long getStatementCount();
+    
+    long getErrorCount();
+    
+    long getRowsReturned();
+    
+    long getRowsAffected();
+    
+    long getStatementLatencyP50();
+    
+    long getStatementLatencyP99();
+    
+    long getStatementLatencyP999();
+    
+    long getStatementLatencyMax();
+    
+    double getStatementLatencyMean();
+    
+    long getConnectionAcquireCount();
+    
+    long getConnectionAcquireWaitP99();
+    
+    long getConnectionAcquireWaitMax();
+    
+    /**
+     * Get cumulative connection acquire wait histogram, so that readers can compute interval percentiles from the difference of two samples.
+     *
+     * @return compressed HdrHistogram encoding of acquire wait in microseconds
+     */
+    byte[] getConnectionAcquireWaitHistogram();
+    
+    /**
+     * Reset all counters and histograms.
+     */
+    void reset();
+}
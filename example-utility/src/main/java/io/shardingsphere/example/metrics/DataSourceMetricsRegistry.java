@@ -0,0 +1,87 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.metrics;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Registry of data source metrics, every metrics is exposed as MBean `io.shardingsphere.example:type=DataSourceMetrics,name=<data source>`.
+ */
+public final class DataSourceMetricsRegistry {
+    
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataSourceMetricsRegistry.class);
+    
+    private static final DataSourceMetricsRegistry INSTANCE = new DataSourceMetricsRegistry();
+    
+    private final ConcurrentMap<String, DataSourceMetrics> metrics = new ConcurrentHashMap<>();
+    
+    private DataSourceMetricsRegistry() {
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static DataSourceMetricsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create data source metrics.
+     *
+     * @param dataSourceName data source name
+     * @return data source metrics
+     */
+    public DataSourceMetrics getOrCreate(final String dataSourceName) {
+        DataSourceMetrics result = metrics.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        if (null == metrics.putIfAbsent(dataSourceName, new DataSourceMetrics(dataSourceName))) {
+            registerMBean(metrics.get(dataSourceName));
+        }
+        return metrics.get(dataSourceName);
+    }
+    
+    private void registerMBean(final DataSourceMetrics dataSourceMetrics) {
+        try {
+            ObjectName objectName = new ObjectName("io.shardingsphere.example:type=DataSourceMetrics,name=" + ObjectName.quote(dataSourceMetrics.getDataSourceName()));
+            ManagementFactory.getPlatformMBeanServer().registerMBean(dataSourceMetrics, objectName);
+        } catch (final JMException ex) {
+            LOGGER.warn("Can not register metrics MBean of data source `{}`.", dataSourceMetrics.getDataSourceName(), ex);
+        }
+    }
+    
+    /**
+     * Get all data source metrics.
+     *
+     * @return all data source metrics
+     */
+    public Collection<DataSourceMetrics> getAll() {
+        return metrics.values();
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2016-2018 shardingsphere.io.
+ * <p>
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * </p>
+ */
+
+package io.shardingsphere.example.metrics;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * Hikari data source which records statement latency, rows, connection acquire wait and errors into {@link DataSourceMetricsRegistry}.
+ *
+ * <p>Instrumentation is opt-in: activate Spring profile `metrics` or set system property `example.metrics.enabled` for {@code DataSourceUtil}.
+ * Not supported with XA transaction, whose data source swapper recognizes Hikari by exact class name.</p>
+ *
+ * <p>Metrics are keyed by pool name if configured explicitly, otherwise by `host:port/database` of JDBC URL, e.g. `localhost:3306/demo_ds_0`.
+ * Rows are counted at {@link ResultSet#next()} only, column getters are not intercepted.</p>
+ */
+public class InstrumentedDataSource extends HikariDataSource {
+    
+    private volatile DataSourceMetrics metrics;
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        DataSourceMetrics currentMetrics = getMetrics();
+        long startNanos = System.nanoTime();
+        Connection connection;
+        try {
+            connection = super.getConnection();
+        } catch (final SQLException | RuntimeException ex) {
+            currentMetrics.recordError();
+            throw ex;
+        }
+        currentMetrics.recordAcquire(System.nanoTime() - startNanos);
+        ConnectionHandler handler = new ConnectionHandler(connection, currentMetrics);
+        Connection result = (Connection) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class[]{Connection.class}, handler);
+        handler.proxy = result;
+        return result;
+    }
+    
+    private DataSourceMetrics getMetrics() {
+        if (null == metrics) {
+            metrics = DataSourceMetricsRegistry.getInstance().getOrCreate(null == getPoolName() ? getMetricsName(getJdbcUrl()) : getPoolName());
+        }
+        return metrics;
+    }
+    
+    private static String getMetricsName(final String jdbcUrl) {
+        if (null == jdbcUrl) {
+            return "unknown";
+        }
+        int end = jdbcUrl.indexOf('?');
+        String result = -1 == end ? jdbcUrl : jdbcUrl.substring(0, end);
+        int start = result.indexOf("//");
+        return -1 == start ? result : result.substring(start + 2);
+    }
+    
+    private static Object invoke(final Object target, final Method method, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (final InvocationTargetException ex) {
+            throw ex.getTargetException();
+        }
+    }
+    
+    private static final class ConnectionHandler implements InvocationHandler {
+        
+        private final Connection connection;
+        
+        private final DataSourceMetrics metrics;
+        
+        private Connection proxy;
+        
+        ConnectionHandler(final Connection connection, final DataSourceMetrics metrics) {
+            this.connection = connection;
+            this.metrics = metrics;
+        }
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            Object result = InstrumentedDataSource.invoke(connection, method, args);
+            String methodName = method.getName();
+            if ("createStatement".equals(methodName) || "prepareStatement".equals(methodName) || "prepareCall".equals(methodName)) {
+                StatementHandler handler = new StatementHandler((Statement) result, this.proxy, metrics);
+                Statement statement = (Statement) Proxy.newProxyInstance(InstrumentedDataSource.class.getClassLoader(), new Class[]{method.getReturnType()}, handler);
+                handler.proxy = statement;
+                return statement;
+            }
+            return result;
+        }
+    }
+    
+    private static final class StatementHandler implements InvocationHandler {
+        
+        private final Statement statement;
+        
+        private final Connection connection;
+        
+        private final DataSourceMetrics metrics;
+        
+        private Statement proxy;
+        
+        StatementHandler(final Statement statement, final Connection connection, final DataSourceMetrics metrics) {
+            this.statement = statement;
+            this.connection = connection;
+            this.metrics = metrics;
+        }
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            String methodName = method.getName();
+            if ("getConnection".equals(methodName)) {
+                return connection;
+            }
+            if ("getResultSet".equals(methodName)) {
+                return wrapResultSet((ResultSet) InstrumentedDataSource.invoke(statement, method, args));
+            }
+            if (!methodName.startsWith("execute")) {
+                return InstrumentedDataSource.invoke(statement, method, args);
+            }
+            long startNanos = System.nanoTime();
+            Object result;
+            try {
+                result = InstrumentedDataSource.invoke(statement, method, args);
+            } catch (final SQLException ex) {
+                metrics.recordError();
+                throw ex;
+            }
+            metrics.recordStatement(System.nanoTime() - startNanos);
+            if (result instanceof ResultSet) {
+                return wrapResultSet((ResultSet) result);
+            }
+            if (result instanceof Number && !"execute".equals(methodName)) {
+                metrics.recordRowsAffected(((Number) result).longValue());
+            } else if (result instanceof int[]) {
+                recordBatchRowsAffected((int[]) result);
+            } else if (result instanceof long[]) {
+                recordBatchRowsAffected((long[]) result);
+            }
+            return result;
+        }
+        
+        private ResultSet wrapResultSet(final ResultSet resultSet) {
+            return null == resultSet ? null : new MetricsResultSet(resultSet, proxy, metrics);
+        }
+        
+        private void recordBatchRowsAffected(final int[] updateCounts) {
+            long rows = 0;
+            for (int each : updateCounts) {
+                if (each > 0) {
+                    rows += each;
+                }
+            }
+            metrics.recordRowsAffected(rows);
+        }
+        
+        private void recordBatchRowsAffected(final long[] updateCounts) {
+            long rows = 0;
+            for (long each : updateCounts) {
+                if (each > 0) {
+                    rows += each;
+                }
+            }
+            metrics.recordRowsAffected(rows);
+        }
+    }
+}
@@ -17,14 +17,21 @@
 
 package io.shardingsphere.example.jdbc.onlinebank.controller;
 
+import io.shardingsphere.example.jdbc.onlinebank.service.ConsistencyReport;
 import io.shardingsphere.example.jdbc.onlinebank.service.OnlineBankingService;
+import io.shardingsphere.example.jdbc.onlinebank.service.WorkloadOptions;
+import io.shardingsphere.example.jdbc.onlinebank.service.WorkloadReport;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Online banking controller.
@@ -67,12 +74,61 @@ public final class OnlineBankingController {
         return "ok";
     }
     
-    @RequestMapping(value = "/check")
-    public String checkData() throws SQLException {
-        onlineBankingService.checkDataConsistency();
+    /**
+     * Transfer money by batches.
+     *
+     * @param type transaction type
+     * @param count execute count
+     * @param size count of transfers per batch
+     * @return string
+     * @throws SQLException SQL exception
+     */
+    @RequestMapping(value = "/transfer/{type}/{count}/batch/{size}")
+    public String transferMoney(final @PathVariable("count") int count, final @PathVariable("type") String type, final @PathVariable("size") int size) throws SQLException {
+        onlineBankingService.transferMoney(TransactionType.valueOf(type.toUpperCase()), count, size);
         return "ok";
     }
     
+    /**
+     * Run multi-threaded transfer workload.
+     *
+     * @param types transaction types separated by comma
+     * @param accounts count of accounts
+     * @param threads count of worker threads
+     * @param duration duration in seconds of each transaction type
+     * @param distribution zipf or uniform
+     * @param zipfExponent exponent of Zipfian distribution
+     * @param crossShardRatio ratio of transfers between accounts of different shards, shards are resolved by sharding rule
+     * @return workload reports
+     * @throws SQLException SQL exception
+     * @throws InterruptedException interrupted exception
+     */
+    @RequestMapping(value = "/workload")
+    public List<WorkloadReport> runWorkload(@RequestParam(defaultValue = "LOCAL,XA,BASE") final String types, @RequestParam(defaultValue = "1000") final int accounts,
+                                            @RequestParam(defaultValue = "16") final int threads, @RequestParam(defaultValue = "60") final int duration,
+                                            @RequestParam(defaultValue = "zipf") final String distribution, @RequestParam(defaultValue = "0.99") final double zipfExponent,
+                                            @RequestParam(defaultValue = "0.5") final double crossShardRatio)
+            throws SQLException, InterruptedException {
+        Collection<TransactionType> transactionTypes = new ArrayList<>();
+        for (String each : types.split(",")) {
+            transactionTypes.add(TransactionType.valueOf(each.trim().toUpperCase()));
+        }
+        WorkloadOptions options = new WorkloadOptions(accounts, threads, duration, "zipf".equalsIgnoreCase(distribution), zipfExponent, crossShardRatio);
+        return onlineBankingService.runWorkload(transactionTypes, options);
+    }
+    
+    /**
+     * Check data consistency.
+     *
+     * @param incremental only check accounts transferred since last incremental check or not
+     * @return consistency report
+     * @throws SQLException SQL exception
+     */
+    @RequestMapping(value = "/check")
+    public ConsistencyReport checkData(@RequestParam(defaultValue = "false") final boolean incremental) throws SQLException {
+        return incremental ? onlineBankingService.checkDataConsistencyIncremental() : onlineBankingService.checkDataConsistency();
+    }
+    
     /**
      * clean.
      *
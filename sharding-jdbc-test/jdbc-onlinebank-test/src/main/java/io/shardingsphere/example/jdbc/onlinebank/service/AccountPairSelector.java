@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Choose debit and credit accounts of transfers by uniform or Zipfian distribution, with a ratio of transfers across shards.
+ *
+ * <p>
+ * Shards are resolved by the sharding rule: account and bill rows by database strategies of {@code account} and {@code bill},
+ * journal row by database strategy of {@code journal} on {@code debitacc}.
+ * A same shard transfer takes a debit account whose account, bill and journal rows are all in one shard,
+ * and a credit account whose account and bill rows are in that shard too, so every row of the transfer is in one shard.
+ * </p>
+ */
+final class AccountPairSelector {
+    
+    private final double crossShardRatio;
+    
+    private final int[] shardOfAccounts;
+    
+    private final IndexSampler accountSampler;
+    
+    private final int[] localDebitAccounts;
+    
+    private final IndexSampler localDebitSampler;
+    
+    private final int[][] shardAccounts;
+    
+    private final IndexSampler[] shardSamplers;
+    
+    private final int[] activeShards;
+    
+    AccountPairSelector(final AccountPopulation population, final BankingShardResolver resolver, final WorkloadOptions options) {
+        crossShardRatio = options.getCrossShardRatio();
+        shardOfAccounts = new int[population.size()];
+        accountSampler = createSampler(population.size(), options);
+        int shardCount = resolver.getShardCount();
+        int[] counts = new int[shardCount];
+        boolean[] journalInShard = new boolean[population.size()];
+        for (int i = 0; i < population.size(); i++) {
+            shardOfAccounts[i] = resolveAccountShard(resolver, population.getCustomerNo(i), population.getAccountNo(i));
+            if (shardOfAccounts[i] >= 0) {
+                counts[shardOfAccounts[i]]++;
+                journalInShard[i] = shardOfAccounts[i] == resolveJournalShard(resolver, population.getAccountNo(i));
+            }
+        }
+        shardAccounts = new int[shardCount][];
+        List<Integer> activeShardList = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            shardAccounts[i] = new int[counts[i]];
+            if (counts[i] > 0) {
+                activeShardList.add(i);
+            }
+            counts[i] = 0;
+        }
+        for (int i = 0; i < population.size(); i++) {
+            int shard = shardOfAccounts[i];
+            if (shard >= 0) {
+                shardAccounts[shard][counts[shard]++] = i;
+            }
+        }
+        List<Integer> localDebitAccountList = new ArrayList<>();
+        for (int i = 0; i < population.size(); i++) {
+            if (journalInShard[i] && shardAccounts[shardOfAccounts[i]].length >= 2) {
+                localDebitAccountList.add(i);
+            }
+        }
+        activeShards = toArray(activeShardList);
+        localDebitAccounts = toArray(localDebitAccountList);
+        if (crossShardRatio < 1 && 0 == localDebitAccounts.length) {
+            throw new IllegalStateException("No account has account, bill and journal rows in the same shard with another account, increase accounts or use cross shard ratio 1.");
+        }
+        if (crossShardRatio > 0 && activeShards.length < 2) {
+            throw new IllegalStateException(String.format("Accounts only spread over %s shards, increase accounts or use cross shard ratio 0.", activeShards.length));
+        }
+        localDebitSampler = 0 == localDebitAccounts.length ? null : createSampler(localDebitAccounts.length, options);
+        shardSamplers = new IndexSampler[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shardSamplers[i] = 0 == shardAccounts[i].length ? null : createSampler(shardAccounts[i].length, options);
+        }
+    }
+    
+    private static IndexSampler createSampler(final int size, final WorkloadOptions options) {
+        return options.isZipfian() ? new ZipfianSampler(size, options.getZipfExponent()) : new UniformSampler(size);
+    }
+    
+    private static int resolveAccountShard(final BankingShardResolver resolver, final long customerNo, final long accountNo) {
+        Map<String, Comparable<?>> columnValues = new HashMap<>(2, 1);
+        columnValues.put("customer_no", customerNo);
+        columnValues.put("account_no", accountNo);
+        int result = resolver.resolve("account", columnValues);
+        return result == resolver.resolve("bill", columnValues) ? result : -1;
+    }
+    
+    private static int resolveJournalShard(final BankingShardResolver resolver, final long debitAccountNo) {
+        return resolver.resolve("journal", Collections.<String, Comparable<?>>singletonMap("debitacc", debitAccountNo));
+    }
+    
+    private static int[] toArray(final List<Integer> list) {
+        int[] result = new int[list.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = list.get(i);
+        }
+        return result;
+    }
+    
+    boolean nextCrossShard(final Random random) {
+        return random.nextDouble() < crossShardRatio;
+    }
+    
+    int selectDebit(final Random random, final boolean crossShard) {
+        if (!crossShard) {
+            return localDebitAccounts[localDebitSampler.next(random)];
+        }
+        int result;
+        do {
+            result = accountSampler.next(random);
+        } while (shardOfAccounts[result] < 0);
+        return result;
+    }
+    
+    int selectCredit(final Random random, final int debitIndex, final boolean crossShard) {
+        int shard = shardOfAccounts[debitIndex];
+        if (crossShard) {
+            int otherShard;
+            do {
+                otherShard = activeShards[random.nextInt(activeShards.length)];
+            } while (otherShard == shard);
+            return shardAccounts[otherShard][shardSamplers[otherShard].next(random)];
+        }
+        int result;
+        do {
+            result = shardAccounts[shard][shardSamplers[shard].next(random)];
+        } while (result == debitIndex);
+        return result;
+    }
+    
+    private interface IndexSampler {
+        
+        int next(Random random);
+    }
+    
+    private static final class UniformSampler implements IndexSampler {
+        
+        private final int size;
+        
+        UniformSampler(final int size) {
+            this.size = size;
+        }
+        
+        @Override
+        public int next(final Random random) {
+            return random.nextInt(size);
+        }
+    }
+    
+    /**
+     * Index {@code i} is chosen with probability proportional to {@code 1 / (i + 1) ^ exponent}, by binary search over cumulative probabilities.
+     */
+    private static final class ZipfianSampler implements IndexSampler {
+        
+        private final double[] cumulativeProbabilities;
+        
+        ZipfianSampler(final int size, final double exponent) {
+            cumulativeProbabilities = new double[size];
+            double sum = 0;
+            for (int i = 0; i < size; i++) {
+                sum += 1 / Math.pow(i + 1, exponent);
+                cumulativeProbabilities[i] = sum;
+            }
+            for (int i = 0; i < size; i++) {
+                cumulativeProbabilities[i] /= sum;
+            }
+        }
+        
+        @Override
+        public int next(final Random random) {
+            int result = Arrays.binarySearch(cumulativeProbabilities, random.nextDouble());
+            if (result < 0) {
+                result = -result - 1;
+            }
+            return Math.min(result, cumulativeProbabilities.length - 1);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Accounts created for banking workload.
+ */
+final class AccountPopulation {
+    
+    private final long[] accountNos;
+    
+    private final long[] customerNos;
+    
+    private int size;
+    
+    AccountPopulation(final int capacity) {
+        accountNos = new long[capacity];
+        customerNos = new long[capacity];
+    }
+    
+    void add(final long accountNo, final long customerNo) {
+        accountNos[size] = accountNo;
+        customerNos[size] = customerNo;
+        size++;
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    long getCustomerNo(final int index) {
+        return customerNos[index];
+    }
+    
+    long getAccountNo(final int index) {
+        return accountNos[index];
+    }
+    
+    Map<String, Object> getAccountPair(final int debitIndex, final int creditIndex) {
+        Map<String, Object> result = new HashMap<>(8, 1);
+        result.put("debit_customer_no", customerNos[debitIndex]);
+        result.put("debit_account_no", accountNos[debitIndex]);
+        result.put("credit_customer_no", customerNos[creditIndex]);
+        result.put("credit_account_no", accountNos[creditIndex]);
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.util.Arrays;
+
+/**
+ * Money totals of accounts in cents, keyed by primitive account number with open addressing.
+ *
+ * <p>Accounts are stored densely in insertion order, hash slots only keep dense index plus one.</p>
+ */
+final class AccountTotals {
+    
+    static final int JOURNAL_DEBIT = 0;
+    
+    static final int JOURNAL_CREDIT = 1;
+    
+    static final int BILL_DEBIT = 2;
+    
+    static final int BILL_CREDIT = 3;
+    
+    static final int BALANCE = 4;
+    
+    private static final int COLUMN_COUNT = 5;
+    
+    private int[] slots = new int[1024];
+    
+    private long[] accountNos = new long[512];
+    
+    private long[] values = new long[512 * COLUMN_COUNT];
+    
+    private int[] presentColumns = new int[512];
+    
+    private int size;
+    
+    void add(final long accountNo, final int column, final long cents) {
+        int index = indexOf(accountNo);
+        values[index * COLUMN_COUNT + column] += cents;
+        presentColumns[index] |= 1 << column;
+    }
+    
+    void addAll(final AccountTotals other) {
+        for (int i = 0; i < other.size; i++) {
+            for (int column = 0; column < COLUMN_COUNT; column++) {
+                if (other.has(i, column)) {
+                    add(other.accountNos[i], column, other.get(i, column));
+                }
+            }
+        }
+    }
+    
+    int size() {
+        return size;
+    }
+    
+    long getAccountNo(final int index) {
+        return accountNos[index];
+    }
+    
+    long get(final int index, final int column) {
+        return values[index * COLUMN_COUNT + column];
+    }
+    
+    boolean has(final int index, final int column) {
+        return 0 != (presentColumns[index] & 1 << column);
+    }
+    
+    private int indexOf(final long accountNo) {
+        int mask = slots.length - 1;
+        int slot = hash(accountNo) & mask;
+        while (0 != slots[slot]) {
+            int index = slots[slot] - 1;
+            if (accountNos[index] == accountNo) {
+                return index;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (size == accountNos.length) {
+            grow();
+            return indexOf(accountNo);
+        }
+        accountNos[size] = accountNo;
+        slots[slot] = ++size;
+        return size - 1;
+    }
+    
+    private void grow() {
+        int capacity = accountNos.length * 2;
+        accountNos = Arrays.copyOf(accountNos, capacity);
+        values = Arrays.copyOf(values, capacity * COLUMN_COUNT);
+        presentColumns = Arrays.copyOf(presentColumns, capacity);
+        slots = new int[capacity * 2];
+        int mask = slots.length - 1;
+        for (int i = 0; i < size; i++) {
+            int slot = hash(accountNos[i]) & mask;
+            while (0 != slots[slot]) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+    
+    private static int hash(final long accountNo) {
+        long result = accountNo * 0x9E3779B97F4A7C15L;
+        return (int) (result ^ result >>> 32);
+    }
+}
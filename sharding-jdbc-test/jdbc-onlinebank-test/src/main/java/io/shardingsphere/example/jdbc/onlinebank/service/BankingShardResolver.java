@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import io.shardingsphere.example.analysis.InlineExpressionShardRouter;
+import io.shardingsphere.example.analysis.ShardRouter;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolve shard, which is the data source, of banking rows from database strategies of sharding rule configured by Spring Boot properties.
+ *
+ * <p>Only inline database strategies are supported, a table without database strategy must be in the only data source.</p>
+ */
+final class BankingShardResolver {
+    
+    private static final String SHARDING_PREFIX = "spring.shardingsphere.sharding.";
+    
+    private final List<String> dataSourceNames = new ArrayList<>();
+    
+    private final Map<String, String> shardingColumns = new HashMap<>();
+    
+    private final Map<String, ShardRouter> routers = new HashMap<>();
+    
+    BankingShardResolver(final Environment environment, final String... logicTables) {
+        for (String each : new InlineExpressionParser(environment.getRequiredProperty("spring.shardingsphere.datasource.names").replace("$->{", "${")).splitAndEvaluate()) {
+            dataSourceNames.add(each.trim());
+        }
+        for (String each : logicTables) {
+            loadDatabaseStrategy(environment, each);
+        }
+    }
+    
+    private void loadDatabaseStrategy(final Environment environment, final String logicTable) {
+        for (String each : new String[] {SHARDING_PREFIX + "tables." + logicTable + ".database-strategy.", SHARDING_PREFIX + "default-database-strategy."}) {
+            String shardingColumn = environment.getProperty(each + "inline.sharding-column");
+            if (null != shardingColumn) {
+                shardingColumns.put(logicTable, shardingColumn);
+                routers.put(logicTable, new InlineExpressionShardRouter(environment.getRequiredProperty(each + "inline.algorithm-expression"), shardingColumn));
+                return;
+            }
+            if (null != environment.getProperty(each + "standard.sharding-column") || null != environment.getProperty(each + "complex.sharding-columns")
+                    || null != environment.getProperty(each + "hint.algorithm-class-name")) {
+                throw new UnsupportedOperationException(String.format("Only inline database strategy of `%s` can be resolved for banking workload.", logicTable));
+            }
+        }
+        if (1 != dataSourceNames.size()) {
+            throw new UnsupportedOperationException(String.format("Can not resolve one of %s for `%s` without database strategy.", dataSourceNames, logicTable));
+        }
+    }
+    
+    int getShardCount() {
+        return dataSourceNames.size();
+    }
+    
+    /**
+     * Resolve shard.
+     *
+     * @param logicTable logic table
+     * @param columnValues values of columns, which must include sharding column
+     * @return index of data source in configured data source names
+     */
+    int resolve(final String logicTable, final Map<String, Comparable<?>> columnValues) {
+        ShardRouter router = routers.get(logicTable);
+        if (null == router) {
+            return 0;
+        }
+        String shardingColumn = shardingColumns.get(logicTable);
+        Comparable<?> value = columnValues.get(shardingColumn);
+        if (null == value) {
+            throw new IllegalArgumentException(String.format("Sharding column `%s` of `%s` has no value.", shardingColumn, logicTable));
+        }
+        String dataSourceName = router.route(value);
+        int result = dataSourceNames.indexOf(dataSourceName);
+        if (result < 0) {
+            throw new IllegalStateException(String.format("Data source `%s` routed for `%s` is not one of %s.", dataSourceName, logicTable, dataSourceNames));
+        }
+        return result;
+    }
+}
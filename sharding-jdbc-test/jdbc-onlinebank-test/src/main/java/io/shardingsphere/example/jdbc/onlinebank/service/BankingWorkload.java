@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import org.HdrHistogram.Histogram;
+import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenerator;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Multi-threaded transfer workload over an account population.
+ *
+ * <p>Every worker holds one connection with statements prepared once, and runs one transfer per transaction until the duration ends.</p>
+ */
+final class BankingWorkload {
+    
+    private static final int MYSQL_DEADLOCK_ERROR_CODE = 1213;
+    
+    private static final int MYSQL_LOCK_WAIT_TIMEOUT_ERROR_CODE = 1205;
+    
+    private static final String DEADLOCK_SQL_STATE = "40001";
+    
+    private final DataSource dataSource;
+    
+    private final SnowflakeShardingKeyGenerator keyGenerator;
+    
+    private final AccountPopulation population;
+    
+    private final AccountPairSelector selector;
+    
+    private final WorkloadOptions options;
+    
+    BankingWorkload(final DataSource dataSource, final SnowflakeShardingKeyGenerator keyGenerator, final AccountPopulation population, final BankingShardResolver resolver,
+                    final WorkloadOptions options) {
+        this.dataSource = dataSource;
+        this.keyGenerator = keyGenerator;
+        this.population = population;
+        this.options = options;
+        selector = new AccountPairSelector(population, resolver, options);
+    }
+    
+    WorkloadReport run(final TransactionType transactionType) throws SQLException, InterruptedException {
+        long endNanos = System.nanoTime() + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+        ExecutorService executorService = Executors.newFixedThreadPool(options.getThreads());
+        List<Future<WorkerResult>> futures = new ArrayList<>(options.getThreads());
+        try {
+            for (int i = 0; i < options.getThreads(); i++) {
+                futures.add(executorService.submit(new Worker(transactionType, endNanos)));
+            }
+            Histogram histogram = new Histogram(3);
+            long aborted = 0;
+            long deadlocks = 0;
+            long rollbackFailures = 0;
+            for (Future<WorkerResult> each : futures) {
+                WorkerResult workerResult = each.get();
+                histogram.add(workerResult.histogram);
+                aborted += workerResult.aborted;
+                deadlocks += workerResult.deadlocks;
+                rollbackFailures += workerResult.rollbackFailures;
+            }
+            return new WorkloadReport(transactionType, options.getDurationSeconds(), histogram, aborted, deadlocks, rollbackFailures);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private static boolean isDeadlock(final SQLException ex) {
+        Throwable each = ex;
+        while (null != each) {
+            if (each instanceof SQLException) {
+                SQLException sqlException = (SQLException) each;
+                if (MYSQL_DEADLOCK_ERROR_CODE == sqlException.getErrorCode() || MYSQL_LOCK_WAIT_TIMEOUT_ERROR_CODE == sqlException.getErrorCode()
+                        || DEADLOCK_SQL_STATE.equals(sqlException.getSQLState())) {
+                    return true;
+                }
+            }
+            each = each.getCause();
+        }
+        return false;
+    }
+    
+    private static boolean rollback(final Connection connection, final TransferBatch transferBatch) {
+        try {
+            transferBatch.clear();
+            connection.rollback();
+            return true;
+        } catch (final SQLException ex) {
+            return false;
+        }
+    }
+    
+    private final class Worker implements Callable<WorkerResult> {
+        
+        private final TransactionType transactionType;
+        
+        private final long endNanos;
+        
+        Worker(final TransactionType transactionType, final long endNanos) {
+            this.transactionType = transactionType;
+            this.endNanos = endNanos;
+        }
+        
+        @Override
+        public WorkerResult call() throws SQLException {
+            WorkerResult result = new WorkerResult();
+            Random random = ThreadLocalRandom.current();
+            TransactionTypeHolder.set(transactionType);
+            try (Connection connection = dataSource.getConnection();
+                 TransferBatch transferBatch = new TransferBatch(connection)) {
+                while (System.nanoTime() < endNanos && !Thread.currentThread().isInterrupted()) {
+                    boolean crossShard = selector.nextCrossShard(random);
+                    int debitIndex = selector.selectDebit(random, crossShard);
+                    int creditIndex = selector.selectCredit(random, debitIndex, crossShard);
+                    long startNanos = System.nanoTime();
+                    try {
+                        connection.setAutoCommit(false);
+                        transferBatch.add(((Number) keyGenerator.generateKey()).longValue(), population.getAccountPair(debitIndex, creditIndex));
+                        transferBatch.execute();
+                        connection.commit();
+                    } catch (final SQLException ex) {
+                        result.aborted++;
+                        if (isDeadlock(ex)) {
+                            result.deadlocks++;
+                        }
+                        if (!rollback(connection, transferBatch)) {
+                            result.rollbackFailures++;
+                        }
+                    }
+                    result.histogram.recordValue(System.nanoTime() - startNanos);
+                }
+            } finally {
+                TransactionTypeHolder.clear();
+            }
+            return result;
+        }
+    }
+    
+    private static final class WorkerResult {
+        
+        private final Histogram histogram = new Histogram(3);
+        
+        private long aborted;
+        
+        private long deadlocks;
+        
+        private long rollbackFailures;
+    }
+}
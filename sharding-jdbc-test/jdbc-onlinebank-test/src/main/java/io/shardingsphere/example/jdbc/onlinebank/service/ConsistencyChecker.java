@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Check journal, bill and account of accounts by a few aggregate queries.
+ *
+ * <p>Queries run in parallel on their own connections and every one of them is executed on all shards, totals are joined in memory in cents.
+ * They do not read one consistent snapshot across queries and shards, so the full check needs a quiesced system.
+ * Journal rows are counted before and after the full check, a different count means transfers ran concurrently and the report is not reliable.</p>
+ *
+ * <p>Incremental check runs alongside transfers, it relies on every transfer committing journal, bill and balance in one transaction.
+ * It verifies accounts of journal modified since last watermark, rewound by an overlap for shards with slower clock, and mismatched accounts of last check.
+ * Accounts with journal modified after the stable watermark, which lags behind now, are read again after the totals,
+ * they may have transfers in flight, so they are deferred instead of judged, and verified by the next check.
+ * The watermark always advances to the stable watermark, so the scanned window stays bounded even if a mismatch persists,
+ * mismatched accounts are kept with the watermark and verified again until they match.</p>
+ */
+final class ConsistencyChecker {
+    
+    private static final long INITIAL_BALANCE_CENTS = 100000000L;
+    
+    private static final int ACCOUNT_CHUNK_SIZE = 1000;
+    
+    private static final long WATERMARK_OVERLAP_MILLIS = 5000L;
+    
+    private static final long STABLE_LAG_MILLIS = 5000L;
+    
+    private static final int MAX_PENDING_ACCOUNTS = 10000;
+    
+    private static final long[] ALL_ACCOUNTS = new long[0];
+    
+    private final DataSource dataSource;
+    
+    ConsistencyChecker(final DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+    
+    ConsistencyReport check() throws SQLException {
+        long startNanos = System.nanoTime();
+        ConsistencyReport result = new ConsistencyReport();
+        long journalCount = queryJournalCount();
+        result.setCheckedAccounts(check(ALL_ACCOUNTS, result));
+        result.setConcurrentTransfers(journalCount != queryJournalCount());
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return result;
+    }
+    
+    ConsistencyReport checkIncremental(final ConsistencyWatermark watermark) throws SQLException {
+        long startNanos = System.nanoTime();
+        ConsistencyReport result = new ConsistencyReport();
+        Timestamp stableWatermark = new Timestamp(System.currentTimeMillis() - STABLE_LAG_MILLIS);
+        Timestamp lastWatermark = watermark.load();
+        List<AccountTotals> totals = new LinkedList<>();
+        if (null == lastWatermark) {
+            totals.add(queryTotals(ALL_ACCOUNTS));
+        } else {
+            long[] accountNos = union(queryModifiedAccounts(new Timestamp(lastWatermark.getTime() - WATERMARK_OVERLAP_MILLIS)), watermark.loadPendingAccounts());
+            for (int i = 0; i < accountNos.length; i += ACCOUNT_CHUNK_SIZE) {
+                totals.add(queryTotals(Arrays.copyOfRange(accountNos, i, Math.min(i + ACCOUNT_CHUNK_SIZE, accountNos.length))));
+            }
+        }
+        long[] unstableAccounts = queryModifiedAccounts(stableWatermark);
+        long[] pendingAccounts = new long[16];
+        int pendingSize = 0;
+        long checkedAccounts = 0;
+        for (AccountTotals each : totals) {
+            for (int i = 0; i < each.size(); i++) {
+                if (Arrays.binarySearch(unstableAccounts, each.getAccountNo(i)) >= 0) {
+                    result.addDeferredAccount();
+                    continue;
+                }
+                checkedAccounts++;
+                if (!check(each, i, result) && pendingSize < MAX_PENDING_ACCOUNTS) {
+                    if (pendingSize == pendingAccounts.length) {
+                        pendingAccounts = Arrays.copyOf(pendingAccounts, pendingSize * 2);
+                    }
+                    pendingAccounts[pendingSize++] = each.getAccountNo(i);
+                }
+            }
+        }
+        if (null == lastWatermark || stableWatermark.after(lastWatermark)) {
+            watermark.store(stableWatermark, Arrays.copyOf(pendingAccounts, pendingSize));
+        }
+        result.setCheckedAccounts(checkedAccounts);
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        return result;
+    }
+    
+    private long queryJournalCount() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQLConstant.countJournal);
+             ResultSet resultSet = preparedStatement.executeQuery()) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+    
+    private long[] queryModifiedAccounts(final Timestamp since) throws SQLException {
+        long[] result = new long[1024];
+        int size = 0;
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement preparedStatement = connection.prepareStatement(SQLConstant.selectJournalAccountsSince)) {
+            preparedStatement.setTimestamp(1, since);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    if (size + 2 > result.length) {
+                        result = Arrays.copyOf(result, result.length * 2);
+                    }
+                    result[size++] = resultSet.getLong(1);
+                    result[size++] = resultSet.getLong(2);
+                }
+            }
+        }
+        return distinct(result, size);
+    }
+    
+    private static long[] union(final long[] accountNos, final long[] pendingAccountNos) {
+        long[] result = Arrays.copyOf(accountNos, accountNos.length + pendingAccountNos.length);
+        System.arraycopy(pendingAccountNos, 0, result, accountNos.length, pendingAccountNos.length);
+        return distinct(result, result.length);
+    }
+    
+    private static long[] distinct(final long[] values, final int size) {
+        Arrays.sort(values, 0, size);
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (0 == count || values[count - 1] != values[i]) {
+                values[count++] = values[i];
+            }
+        }
+        return Arrays.copyOf(values, count);
+    }
+    
+    private int check(final long[] accountNos, final ConsistencyReport report) throws SQLException {
+        AccountTotals totals = queryTotals(accountNos);
+        for (int i = 0; i < totals.size(); i++) {
+            check(totals, i, report);
+        }
+        return totals.size();
+    }
+    
+    private AccountTotals queryTotals(final long[] accountNos) throws SQLException {
+        Collection<TotalsQuery> queries = new ArrayList<>(4);
+        queries.add(new TotalsQuery(SQLConstant.sumJournalDebit, "debitacc", accountNos, false, AccountTotals.JOURNAL_DEBIT));
+        queries.add(new TotalsQuery(SQLConstant.sumJournalCredit, "creditacc", accountNos, false, AccountTotals.JOURNAL_CREDIT));
+        queries.add(new TotalsQuery(SQLConstant.sumBill, "account_no", accountNos, true, AccountTotals.BILL_DEBIT, AccountTotals.BILL_CREDIT));
+        queries.add(new TotalsQuery(SQLConstant.selectAccountBalance, "account_no", accountNos, false, AccountTotals.BALANCE));
+        return queryAll(queries);
+    }
+    
+    private AccountTotals queryAll(final Collection<TotalsQuery> queries) throws SQLException {
+        ExecutorService executorService = Executors.newFixedThreadPool(queries.size());
+        try {
+            List<Future<AccountTotals>> futures = executorService.invokeAll(queries);
+            AccountTotals result = new AccountTotals();
+            for (Future<AccountTotals> each : futures) {
+                result.addAll(each.get());
+            }
+            return result;
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Consistency check is interrupted.", ex);
+        } catch (final ExecutionException ex) {
+            if (ex.getCause() instanceof SQLException) {
+                throw (SQLException) ex.getCause();
+            }
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private boolean check(final AccountTotals totals, final int index, final ConsistencyReport report) {
+        long accountNo = totals.getAccountNo(index);
+        if (!totals.has(index, AccountTotals.BALANCE)) {
+            report.addMismatch(String.format("account [%s] has journal or bill but does not exist", accountNo));
+            return false;
+        }
+        boolean result = true;
+        long billDebit = totals.get(index, AccountTotals.BILL_DEBIT);
+        long billCredit = totals.get(index, AccountTotals.BILL_CREDIT);
+        if (totals.get(index, AccountTotals.JOURNAL_DEBIT) != billDebit) {
+            report.addMismatch(String.format("account [%s] journal debit [%s] but bill debit [%s]", accountNo, toAmount(totals.get(index, AccountTotals.JOURNAL_DEBIT)), toAmount(billDebit)));
+            result = false;
+        }
+        if (totals.get(index, AccountTotals.JOURNAL_CREDIT) != billCredit) {
+            report.addMismatch(String.format("account [%s] journal credit [%s] but bill credit [%s]", accountNo, toAmount(totals.get(index, AccountTotals.JOURNAL_CREDIT)), toAmount(billCredit)));
+            result = false;
+        }
+        long expectedBalance = INITIAL_BALANCE_CENTS + billDebit - billCredit;
+        if (totals.get(index, AccountTotals.BALANCE) != expectedBalance) {
+            report.addMismatch(String.format("account [%s] balance [%s] but expected [%s]", accountNo, toAmount(totals.get(index, AccountTotals.BALANCE)), toAmount(expectedBalance)));
+            result = false;
+        }
+        return result;
+    }
+    
+    private static BigDecimal toAmount(final long cents) {
+        return BigDecimal.valueOf(cents, 2);
+    }
+    
+    private static long toCents(final BigDecimal amount) {
+        return null == amount ? 0L : amount.movePointRight(2).longValueExact();
+    }
+    
+    private final class TotalsQuery implements Callable<AccountTotals> {
+        
+        private final String sql;
+        
+        private final long[] accountNos;
+        
+        private final boolean stringAccountNo;
+        
+        private final int[] columns;
+        
+        TotalsQuery(final String sql, final String accountColumn, final long[] accountNos, final boolean stringAccountNo, final int... columns) {
+            this.sql = String.format(sql, ALL_ACCOUNTS == accountNos ? "" : createAccountCondition(accountColumn, accountNos.length));
+            this.accountNos = accountNos;
+            this.stringAccountNo = stringAccountNo;
+            this.columns = columns;
+        }
+        
+        private String createAccountCondition(final String accountColumn, final int count) {
+            StringBuilder result = new StringBuilder(" where ").append(accountColumn).append(" in (");
+            for (int i = 0; i < count; i++) {
+                result.append(0 == i ? "?" : ", ?");
+            }
+            return result.append(")").toString();
+        }
+        
+        @Override
+        public AccountTotals call() throws SQLException {
+            AccountTotals result = new AccountTotals();
+            try (Connection connection = dataSource.getConnection();
+                 PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                for (int i = 0; i < accountNos.length; i++) {
+                    if (stringAccountNo) {
+                        preparedStatement.setString(i + 1, String.valueOf(accountNos[i]));
+                    } else {
+                        preparedStatement.setLong(i + 1, accountNos[i]);
+                    }
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        long accountNo = resultSet.getLong(1);
+                        for (int i = 0; i < columns.length; i++) {
+                            result.add(accountNo, columns[i], toCents(resultSet.getBigDecimal(i + 2)));
+                        }
+                    }
+                }
+            }
+            return result;
+        }
+    }
+}
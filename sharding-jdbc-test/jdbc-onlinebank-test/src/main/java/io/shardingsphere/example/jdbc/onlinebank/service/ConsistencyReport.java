@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Consistency report of online banking data.
+ */
+public final class ConsistencyReport {
+    
+    private static final int MAX_MISMATCH_SAMPLES = 100;
+    
+    private final List<String> mismatchSamples = new ArrayList<>();
+    
+    private long checkedAccounts;
+    
+    private long mismatches;
+    
+    private long deferredAccounts;
+    
+    private long elapsedMillis;
+    
+    private boolean concurrentTransfers;
+    
+    void addMismatch(final String mismatch) {
+        mismatches++;
+        if (mismatchSamples.size() < MAX_MISMATCH_SAMPLES) {
+            mismatchSamples.add(mismatch);
+        }
+    }
+    
+    void addDeferredAccount() {
+        deferredAccounts++;
+    }
+    
+    void setCheckedAccounts(final long checkedAccounts) {
+        this.checkedAccounts = checkedAccounts;
+    }
+    
+    void setElapsedMillis(final long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+    
+    void setConcurrentTransfers(final boolean concurrentTransfers) {
+        this.concurrentTransfers = concurrentTransfers;
+    }
+    
+    /**
+     * Judge whether check passed, check with concurrent transfers never passes because it does not read a consistent snapshot.
+     *
+     * @return passed or not
+     */
+    public boolean isPassed() {
+        return 0 == mismatches && !concurrentTransfers;
+    }
+    
+    public long getCheckedAccounts() {
+        return checkedAccounts;
+    }
+    
+    public long getMismatches() {
+        return mismatches;
+    }
+    
+    /**
+     * Get accounts with transfers possibly in flight, they are not checked and are left to next incremental check.
+     *
+     * @return deferred accounts
+     */
+    public long getDeferredAccounts() {
+        return deferredAccounts;
+    }
+    
+    /**
+     * Get first mismatches, at most 100.
+     *
+     * @return mismatch samples
+     */
+    public List<String> getMismatchSamples() {
+        return mismatchSamples;
+    }
+    
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    public boolean isConcurrentTransfers() {
+        return concurrentTransfers;
+    }
+}
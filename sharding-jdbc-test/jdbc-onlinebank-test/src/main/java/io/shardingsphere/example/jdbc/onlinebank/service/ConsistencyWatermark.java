@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.Properties;
+
+/**
+ * Watermark of journal already verified and accounts mismatched below it, persisted in local properties file.
+ *
+ * <p>File is {@code consistency-watermark.properties} in working directory, or system property {@code onlinebank.consistency.watermark.file}.</p>
+ */
+final class ConsistencyWatermark {
+    
+    static final String FILE_KEY = "onlinebank.consistency.watermark.file";
+    
+    private static final String GMT_MODIFIED_KEY = "journal.gmt_modified";
+    
+    private static final String PENDING_ACCOUNTS_KEY = "pending.accounts";
+    
+    private final File file;
+    
+    ConsistencyWatermark() {
+        file = new File(System.getProperty(FILE_KEY, "consistency-watermark.properties"));
+    }
+    
+    /**
+     * Load watermark.
+     *
+     * @return journal modified time already verified, null if never verified
+     */
+    Timestamp load() {
+        String value = loadProperties().getProperty(GMT_MODIFIED_KEY);
+        return null == value ? null : Timestamp.valueOf(value);
+    }
+    
+    /**
+     * Load accounts mismatched by last check, they are verified again by next check.
+     *
+     * @return sorted account numbers
+     */
+    long[] loadPendingAccounts() {
+        String value = loadProperties().getProperty(PENDING_ACCOUNTS_KEY, "");
+        if (value.isEmpty()) {
+            return new long[0];
+        }
+        String[] accountNos = value.split(",");
+        long[] result = new long[accountNos.length];
+        for (int i = 0; i < accountNos.length; i++) {
+            result[i] = Long.parseLong(accountNos[i]);
+        }
+        return result;
+    }
+    
+    private Properties loadProperties() {
+        Properties result = new Properties();
+        if (!file.exists()) {
+            return result;
+        }
+        try (InputStream inputStream = new FileInputStream(file)) {
+            result.load(inputStream);
+        } catch (final IOException ex) {
+            throw new IllegalStateException(String.format("Can not load consistency watermark from `%s`.", file), ex);
+        }
+        return result;
+    }
+    
+    /**
+     * Store watermark, file is written to a temporary file and moved over the old one atomically,
+     * only on file systems without atomic move the old file is replaced by a non-atomic move.
+     *
+     * @param gmtModified journal modified time verified
+     * @param pendingAccountNos sorted account numbers mismatched by this check
+     */
+    void store(final Timestamp gmtModified, final long[] pendingAccountNos) {
+        Properties props = new Properties();
+        props.setProperty(GMT_MODIFIED_KEY, gmtModified.toString());
+        StringBuilder pendingAccounts = new StringBuilder();
+        for (long each : pendingAccountNos) {
+            if (0 != pendingAccounts.length()) {
+                pendingAccounts.append(',');
+            }
+            pendingAccounts.append(each);
+        }
+        props.setProperty(PENDING_ACCOUNTS_KEY, pendingAccounts.toString());
+        File tempFile = new File(file.getAbsolutePath() + ".tmp");
+        try {
+            try (FileOutputStream outputStream = new FileOutputStream(tempFile)) {
+                props.store(outputStream, "online banking consistency watermark");
+                outputStream.getFD().sync();
+            }
+            try {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (final AtomicMoveNotSupportedException ex) {
+                Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (final IOException ex) {
+            throw new IllegalStateException(String.format("Can not store consistency watermark to `%s`.", file), ex);
+        }
+    }
+}
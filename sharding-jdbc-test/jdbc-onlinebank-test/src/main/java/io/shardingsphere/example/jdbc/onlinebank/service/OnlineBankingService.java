@@ -20,6 +20,8 @@ package io.shardingsphere.example.jdbc.onlinebank.service;
 import org.apache.shardingsphere.transaction.core.TransactionType;
 
 import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Online banking service
@@ -34,5 +36,42 @@ public interface OnlineBankingService {
     
     void transferMoney(TransactionType transactionType, int count) throws SQLException;
     
-    void checkDataConsistency() throws SQLException;
+    /**
+     * Transfer money with statements prepared once, every batch of transfers is committed in one transaction.
+     *
+     * @param transactionType transaction type
+     * @param count count of transfers
+     * @param batchSize count of transfers per transaction
+     * @throws SQLException SQL exception
+     */
+    void transferMoney(TransactionType transactionType, int count, int batchSize) throws SQLException;
+    
+    /**
+     * Create accounts, then run multi-threaded transfer workload for each transaction type.
+     *
+     * @param transactionTypes transaction types
+     * @param options workload options
+     * @return workload reports
+     * @throws SQLException SQL exception
+     * @throws InterruptedException interrupted exception
+     */
+    List<WorkloadReport> runWorkload(Collection<TransactionType> transactionTypes, WorkloadOptions options) throws SQLException, InterruptedException;
+    
+    /**
+     * Check journal, bill and balance of all accounts, transfers must not run during the check.
+     *
+     * @return consistency report
+     * @throws SQLException SQL exception
+     */
+    ConsistencyReport checkDataConsistency() throws SQLException;
+    
+    /**
+     * Check journal, bill and balance of accounts transferred since last incremental check, watermark is persisted locally.
+     *
+     * <p>Transfers may run during the check, accounts with transfers in the last seconds are deferred to next check instead of judged.</p>
+     *
+     * @return consistency report
+     * @throws SQLException SQL exception
+     */
+    ConsistencyReport checkDataConsistencyIncremental() throws SQLException;
 }
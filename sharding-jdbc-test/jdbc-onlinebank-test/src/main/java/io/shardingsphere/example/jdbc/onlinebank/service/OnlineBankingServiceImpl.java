@@ -23,6 +23,7 @@ import org.apache.shardingsphere.transaction.core.TransactionTypeHolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Component;
 
 import javax.sql.DataSource;
@@ -31,9 +32,13 @@ import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.TreeMap;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -44,17 +49,35 @@ import java.util.concurrent.atomic.AtomicLong;
 @Component
 public final class OnlineBankingServiceImpl implements OnlineBankingService {
     
+    private static final int POPULATION_COMMIT_SIZE = 1000;
+    
+    private static final String FLOW_NO_WORKER_ID_KEY = "onlinebank.flow-no.worker-id";
+    
+    private static final String DEFAULT_FLOW_NO_WORKER_ID = "1";
+    
     private final static Logger LOG = LoggerFactory.getLogger(OnlineBankingServiceImpl.class);
     
     private final DataSource dataSource;
     
+    private final Environment environment;
+    
     private final AtomicLong id = new AtomicLong();
     
+    private final AtomicInteger runningTransfers = new AtomicInteger();
+    
     private final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
     
+    private final SnowflakeShardingKeyGenerator flowNoGenerator = new SnowflakeShardingKeyGenerator();
+    
+    private final ConsistencyWatermark watermark = new ConsistencyWatermark();
+    
     @Autowired
-    public OnlineBankingServiceImpl(final DataSource dataSource) {
+    public OnlineBankingServiceImpl(final DataSource dataSource, final Environment environment) {
         this.dataSource = dataSource;
+        this.environment = environment;
+        Properties properties = new Properties();
+        properties.setProperty("worker.id", environment.getProperty(FLOW_NO_WORKER_ID_KEY, DEFAULT_FLOW_NO_WORKER_ID));
+        flowNoGenerator.setProperties(properties);
     }
     
     @Override
@@ -85,18 +108,92 @@ public final class OnlineBankingServiceImpl implements OnlineBankingService {
     
     @Override
     public void transferMoney(final TransactionType transactionType, final int count) throws SQLException {
-        Map<String, Object> accounts = prepareAccountPair();
-        TransactionTypeHolder.set(transactionType);
+        runningTransfers.incrementAndGet();
+        try {
+            Map<String, Object> accounts = prepareAccountPair();
+            TransactionTypeHolder.set(transactionType);
+            try (Connection connection = dataSource.getConnection()) {
+                for (int i = 0; i < count; i++) {
+                    connection.setAutoCommit(false);
+                    Long flowNo = insertJournal(connection, accounts);
+                    updateAccount(connection, accounts);
+                    insertBill(connection, flowNo, accounts);
+                    updateJournal(connection, flowNo, accounts);
+                    connection.commit();
+                }
+            }
+        } finally {
+            runningTransfers.decrementAndGet();
+        }
+    }
+    
+    @Override
+    public void transferMoney(final TransactionType transactionType, final int count, final int batchSize) throws SQLException {
+        if (count < 0 || batchSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal transfer arguments, count: %s, batch size: %s.", count, batchSize));
+        }
+        runningTransfers.incrementAndGet();
+        try {
+            Map<String, Object> accounts = prepareAccountPair();
+            TransactionTypeHolder.set(transactionType);
+            try (Connection connection = dataSource.getConnection()) {
+                try (TransferBatch transferBatch = new TransferBatch(connection)) {
+                    for (int i = 0; i < count; i += batchSize) {
+                        connection.setAutoCommit(false);
+                        int size = Math.min(batchSize, count - i);
+                        try {
+                            for (int j = 0; j < size; j++) {
+                                transferBatch.add(((Number) flowNoGenerator.generateKey()).longValue(), accounts);
+                            }
+                            transferBatch.execute();
+                            connection.commit();
+                        } catch (final SQLException | RuntimeException ex) {
+                            transferBatch.clear();
+                            connection.rollback();
+                            throw ex;
+                        }
+                    }
+                }
+            }
+        } finally {
+            runningTransfers.decrementAndGet();
+        }
+    }
+    
+    @Override
+    public List<WorkloadReport> runWorkload(final Collection<TransactionType> transactionTypes, final WorkloadOptions options) throws SQLException, InterruptedException {
+        runningTransfers.incrementAndGet();
+        try {
+            BankingWorkload workload = new BankingWorkload(dataSource, flowNoGenerator, preparePopulation(options.getAccounts()),
+                    new BankingShardResolver(environment, "account", "bill", "journal"), options);
+            List<WorkloadReport> result = new ArrayList<>(transactionTypes.size());
+            for (TransactionType each : transactionTypes) {
+                WorkloadReport report = workload.run(each);
+                LOG.info(String.format("Workload of [%s] finished, tps: %s, abort rate: %s, deadlock rate: %s, latency: %s",
+                        each, report.getTps(), report.getAbortRate(), report.getDeadlockRate(), report.getLatencyMicros()));
+                result.add(report);
+            }
+            return result;
+        } finally {
+            runningTransfers.decrementAndGet();
+        }
+    }
+    
+    private AccountPopulation preparePopulation(final int accounts) throws SQLException {
+        AccountPopulation result = new AccountPopulation(accounts);
+        TransactionTypeHolder.set(TransactionType.LOCAL);
         try (Connection connection = dataSource.getConnection()) {
-            for (int i = 0; i < count; i++) {
-                connection.setAutoCommit(false);
-                Long flowNo = insertJournal(connection, accounts);
-                updateAccount(connection, accounts);
-                insertBill(connection, flowNo, accounts);
-                updateJournal(connection, flowNo, accounts);
-                connection.commit();
+            connection.setAutoCommit(false);
+            for (int i = 0; i < accounts; i++) {
+                Long customerNo = insertCustomer(connection);
+                result.add(insertAccount(connection, customerNo), customerNo);
+                if (0 == (i + 1) % POPULATION_COMMIT_SIZE) {
+                    connection.commit();
+                }
             }
+            connection.commit();
         }
+        return result;
     }
     
     private Map<String, Object> prepareAccountPair() throws SQLException {
@@ -195,69 +292,31 @@ public final class OnlineBankingServiceImpl implements OnlineBankingService {
     }
     
     @Override
-    public void checkDataConsistency() throws SQLException {
-        try (Connection connection = dataSource.getConnection()) {
-            Map<Long, Double> debitJournal = queryJournalAccount(connection, "select debitacc, sum(amount) from journal GROUP BY debitacc");
-            Map<Long, Double> creditJournal = queryJournalAccount(connection, "select creditacc, sum(amount) from journal GROUP BY creditacc");
-            if (checkDebitAccount(debitJournal, connection) && checkCreditAccount(creditJournal, connection)) {
-                LOG.info("All check PASSED !!");
-            } else {
-                LOG.info("Check FAILED, some account data is not consistency !!");
-            }
-        }
-    }
-    
-    private boolean checkDebitAccount(final Map<Long, Double> journalAccounts, final Connection connection) throws SQLException {
-        boolean result = true;
-        for (Map.Entry<Long, Double> entry : journalAccounts.entrySet()) {
-            Double debitAmount = getAmount(entry, connection, "select sum(debitamount) from bill where account_no=?");
-            Double accountRealAmount = getAmount(entry, connection, "select realtimeremain from account where account_no=?");
-            if (debitAmount.equals(entry.getValue()) && accountRealAmount.equals(1000000 + debitAmount)) {
-                LOG.info(String.format("check debit account [%s] PASSED", entry.getKey()));
-            } else {
-                LOG.info(String.format("check debit account [%s] is FAILED, amount:[%s]", entry.getKey(), entry.getValue()));
-                result = false;
-            }
-        }
-        return result;
+    public ConsistencyReport checkDataConsistency() throws SQLException {
+        checkQuiesced();
+        return logReport(new ConsistencyChecker(dataSource).check());
     }
     
-    private boolean checkCreditAccount(final Map<Long, Double> journalAccounts, final Connection connection) throws SQLException {
-        boolean result = true;
-        for (Map.Entry<Long, Double> entry : journalAccounts.entrySet()) {
-            Double creditAmount = getAmount(entry, connection, "select sum(credityield) from bill where account_no=?");
-            Double accountRealAmount = getAmount(entry, connection, "select realtimeremain from account where account_no=?");
-            if (creditAmount.equals(entry.getValue()) && accountRealAmount.equals(1000000 - creditAmount)) {
-                LOG.info(String.format("check credit account [%s] PASSED", entry.getKey()));
-            } else {
-                LOG.info(String.format("check credit account [%s] is FAILED, amount:[%s]", entry.getKey(), entry.getValue()));
-                result = false;
-            }
-        }
-        return result;
+    @Override
+    public synchronized ConsistencyReport checkDataConsistencyIncremental() throws SQLException {
+        return logReport(new ConsistencyChecker(dataSource).checkIncremental(watermark));
     }
     
-    private Double getAmount(final Map.Entry<Long, Double> entry, final Connection connection, final String sql) throws SQLException {
-        Double result = (double) 0;
-        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
-            preparedStatement.setString(1, String.valueOf(entry.getKey()));
-            ResultSet resultSet = preparedStatement.executeQuery();
-            while (resultSet.next()) {
-                result = resultSet.getDouble(1);
-            }
+    private void checkQuiesced() {
+        if (runningTransfers.get() > 0) {
+            throw new IllegalStateException(String.format("Consistency check needs a quiesced system, but %s transfer runs are in progress.", runningTransfers.get()));
         }
-        return result;
     }
     
-    private Map<Long, Double> queryJournalAccount(final Connection connection, final String sql) throws SQLException {
-        Map<Long, Double> result = new TreeMap<>();
-        try (Statement statement = connection.createStatement();
-             ResultSet resultSet = statement.executeQuery(sql)) {
-            while (resultSet.next()) {
-                result.put(resultSet.getLong(1), resultSet.getDouble(2));
-            }
+    private ConsistencyReport logReport(final ConsistencyReport result) {
+        if (result.isConcurrentTransfers()) {
+            LOG.warn(String.format("Check is NOT reliable, transfers ran during check, %s mismatches in %s accounts !!", result.getMismatches(), result.getCheckedAccounts()));
+        } else if (result.isPassed()) {
+            LOG.info(String.format("All check PASSED, %s accounts checked and %s deferred in %s ms !!", result.getCheckedAccounts(), result.getDeferredAccounts(), result.getElapsedMillis()));
+        } else {
+            LOG.info(String.format("Check FAILED, %s mismatches in %s accounts, %s deferred, samples: %s !!",
+                    result.getMismatches(), result.getCheckedAccounts(), result.getDeferredAccounts(), result.getMismatchSamples()));
         }
         return result;
     }
-    
 }
@@ -91,7 +91,8 @@ class SQLConstant {
         + "reserve2 varchar(500)                 comment '备用字段2',"
         + "reserve3 varchar(500)                 comment '备用字段3',"
         + "reserve4 varchar(500)                 comment '备用字段4',"
-        + "PRIMARY KEY (flowno)"
+        + "PRIMARY KEY (flowno),"
+        + "KEY idx_gmt_modified(gmt_modified)"
         + ")";
     
     static final String truncateCustomer = "truncate table customer";
@@ -110,12 +111,14 @@ class SQLConstant {
     
     static final String dropJournal = "drop table if exists journal";
     
-    static final String insertCustomer = "insert into customer (customer_name,paper_type,paper_no,phone_no) values (?,'id',?,13910008888')";
+    static final String insertCustomer = "insert into customer (customer_name,paper_type,paper_no,phone_no) values (?,'id',?,'13910008888')";
     
     static final String insertAccount = "insert into account (account_state, customer_no, realtimeremain, currency, rate, accnature) values ('1',?,1000000,'CNY', 1,'1')";
     
     static final String insertJournal = "insert into journal (flowdate,amount,state,debitacc,creditacc) values (curdate(),1,'0', ?, ?)";
     
+    static final String insertJournalWithFlowNo = "insert into journal (flowno,flowdate,amount,state,debitacc,creditacc) values (?, curdate(),1,'0', ?, ?)";
+    
     static final String updateDebitAccount = "update account set realtimeremain=realtimeremain+1 where account_no=? and customer_no=?";
     
     static final String updateCreditAccount = "update account set realtimeremain=realtimeremain-1 where account_no=? and customer_no=?";
@@ -125,4 +128,16 @@ class SQLConstant {
     static final String insertCreditBill = "insert into bill (flowno, flowdate, account_no, debitamount, credityield, customer_no) values (?, curdate(), ?, 0, 1, ?)";
     
     static final String updateJournal = "update journal set state='1' where flowno=? and debitacc=? and creditacc=?";
+    
+    static final String sumJournalDebit = "select debitacc, sum(amount) from journal%s group by debitacc";
+    
+    static final String sumJournalCredit = "select creditacc, sum(amount) from journal%s group by creditacc";
+    
+    static final String sumBill = "select account_no, sum(debitamount), sum(credityield) from bill%s group by account_no";
+    
+    static final String selectAccountBalance = "select account_no, realtimeremain from account%s";
+    
+    static final String countJournal = "select count(*) from journal";
+    
+    static final String selectJournalAccountsSince = "select debitacc, creditacc from journal where gmt_modified >= ?";
 }
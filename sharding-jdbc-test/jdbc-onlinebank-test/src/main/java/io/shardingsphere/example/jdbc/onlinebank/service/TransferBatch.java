@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * Transfer statements prepared once per connection, transfers are added to JDBC batches of each statement.
+ *
+ * <p>Batches are executed in the same order single transfer runs its statements.</p>
+ */
+final class TransferBatch implements AutoCloseable {
+    
+    private final PreparedStatement insertJournal;
+    
+    private final PreparedStatement updateDebitAccount;
+    
+    private final PreparedStatement updateCreditAccount;
+    
+    private final PreparedStatement insertDebitBill;
+    
+    private final PreparedStatement insertCreditBill;
+    
+    private final PreparedStatement updateJournal;
+    
+    TransferBatch(final Connection connection) throws SQLException {
+        insertJournal = connection.prepareStatement(SQLConstant.insertJournalWithFlowNo);
+        updateDebitAccount = connection.prepareStatement(SQLConstant.updateDebitAccount);
+        updateCreditAccount = connection.prepareStatement(SQLConstant.updateCreditAccount);
+        insertDebitBill = connection.prepareStatement(SQLConstant.insertDebitBill);
+        insertCreditBill = connection.prepareStatement(SQLConstant.insertCreditBill);
+        updateJournal = connection.prepareStatement(SQLConstant.updateJournal);
+    }
+    
+    void add(final long flowNo, final Map<String, Object> accounts) throws SQLException {
+        insertJournal.setObject(1, flowNo);
+        insertJournal.setObject(2, accounts.get("debit_account_no"));
+        insertJournal.setObject(3, accounts.get("credit_account_no"));
+        insertJournal.addBatch();
+        updateDebitAccount.setObject(1, accounts.get("debit_account_no"));
+        updateDebitAccount.setObject(2, accounts.get("debit_customer_no"));
+        updateDebitAccount.addBatch();
+        updateCreditAccount.setObject(1, accounts.get("credit_account_no"));
+        updateCreditAccount.setObject(2, accounts.get("credit_customer_no"));
+        updateCreditAccount.addBatch();
+        insertDebitBill.setObject(1, flowNo);
+        insertDebitBill.setObject(2, accounts.get("debit_account_no"));
+        insertDebitBill.setObject(3, accounts.get("debit_customer_no"));
+        insertDebitBill.addBatch();
+        insertCreditBill.setObject(1, flowNo);
+        insertCreditBill.setObject(2, accounts.get("credit_account_no"));
+        insertCreditBill.setObject(3, accounts.get("credit_customer_no"));
+        insertCreditBill.addBatch();
+        updateJournal.setObject(1, flowNo);
+        updateJournal.setObject(2, accounts.get("debit_account_no"));
+        updateJournal.setObject(3, accounts.get("credit_account_no"));
+        updateJournal.addBatch();
+    }
+    
+    void execute() throws SQLException {
+        insertJournal.executeBatch();
+        updateDebitAccount.executeBatch();
+        updateCreditAccount.executeBatch();
+        insertDebitBill.executeBatch();
+        insertCreditBill.executeBatch();
+        updateJournal.executeBatch();
+    }
+    
+    void clear() throws SQLException {
+        for (PreparedStatement each : Arrays.asList(insertJournal, updateDebitAccount, updateCreditAccount, insertDebitBill, insertCreditBill, updateJournal)) {
+            each.clearBatch();
+        }
+    }
+    
+    @Override
+    public void close() throws SQLException {
+        for (PreparedStatement each : Arrays.asList(insertJournal, updateDebitAccount, updateCreditAccount, insertDebitBill, insertCreditBill, updateJournal)) {
+            each.close();
+        }
+    }
+}
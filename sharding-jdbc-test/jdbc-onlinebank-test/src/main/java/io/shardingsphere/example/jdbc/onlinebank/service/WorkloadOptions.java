@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+/**
+ * Banking workload options.
+ */
+public final class WorkloadOptions {
+    
+    private final int accounts;
+    
+    private final int threads;
+    
+    private final int durationSeconds;
+    
+    private final boolean zipfian;
+    
+    private final double zipfExponent;
+    
+    private final double crossShardRatio;
+    
+    /**
+     * Create banking workload options.
+     *
+     * @param accounts count of accounts to create before running
+     * @param threads count of worker threads
+     * @param durationSeconds duration in seconds of each transaction type
+     * @param zipfian choose accounts by Zipfian distribution or uniform distribution
+     * @param zipfExponent exponent of Zipfian distribution, larger is more skewed
+     * @param crossShardRatio ratio of transfers between accounts of different shards
+     */
+    public WorkloadOptions(final int accounts, final int threads, final int durationSeconds, final boolean zipfian, final double zipfExponent, final double crossShardRatio) {
+        if (accounts < 2 || threads <= 0 || durationSeconds <= 0 || zipfExponent <= 0 || crossShardRatio < 0 || crossShardRatio > 1) {
+            throw new IllegalArgumentException(String.format("Illegal workload options, accounts: %s, threads: %s, duration: %s, zipf exponent: %s, cross shard ratio: %s.",
+                    accounts, threads, durationSeconds, zipfExponent, crossShardRatio));
+        }
+        this.accounts = accounts;
+        this.threads = threads;
+        this.durationSeconds = durationSeconds;
+        this.zipfian = zipfian;
+        this.zipfExponent = zipfExponent;
+        this.crossShardRatio = crossShardRatio;
+    }
+    
+    public int getAccounts() {
+        return accounts;
+    }
+    
+    public int getThreads() {
+        return threads;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public boolean isZipfian() {
+        return zipfian;
+    }
+    
+    public double getZipfExponent() {
+        return zipfExponent;
+    }
+    
+    public double getCrossShardRatio() {
+        return crossShardRatio;
+    }
+}
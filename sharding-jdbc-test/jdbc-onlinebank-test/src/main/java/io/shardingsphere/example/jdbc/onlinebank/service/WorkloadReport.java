@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.onlinebank.service;
+
+import org.HdrHistogram.Histogram;
+import org.apache.shardingsphere.transaction.core.TransactionType;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Banking workload report of one transaction type.
+ */
+public final class WorkloadReport {
+    
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    
+    private final TransactionType transactionType;
+    
+    private final long committed;
+    
+    private final long aborted;
+    
+    private final long deadlocks;
+    
+    private final long rollbackFailures;
+    
+    private final double tps;
+    
+    private final Map<String, Double> latencyMicros = new LinkedHashMap<>();
+    
+    WorkloadReport(final TransactionType transactionType, final int durationSeconds, final Histogram histogram, final long aborted, final long deadlocks, final long rollbackFailures) {
+        this.transactionType = transactionType;
+        this.aborted = aborted;
+        this.deadlocks = deadlocks;
+        this.rollbackFailures = rollbackFailures;
+        committed = histogram.getTotalCount() - aborted;
+        tps = (double) committed / durationSeconds;
+        for (double each : PERCENTILES) {
+            latencyMicros.put("p" + each, histogram.getValueAtPercentile(each) / 1000D);
+        }
+        latencyMicros.put("max", histogram.getMaxValue() / 1000D);
+        latencyMicros.put("mean", histogram.getMean() / 1000D);
+    }
+    
+    public TransactionType getTransactionType() {
+        return transactionType;
+    }
+    
+    public long getCommitted() {
+        return committed;
+    }
+    
+    public long getAborted() {
+        return aborted;
+    }
+    
+    /**
+     * Get count of aborts caused by deadlock or lock wait timeout, they are included in aborted.
+     *
+     * @return count of deadlocks
+     */
+    public long getDeadlocks() {
+        return deadlocks;
+    }
+    
+    /**
+     * Get count of aborts whose rollback failed as well, they are included in aborted.
+     *
+     * @return count of rollback failures
+     */
+    public long getRollbackFailures() {
+        return rollbackFailures;
+    }
+    
+    public double getTps() {
+        return tps;
+    }
+    
+    public double getAbortRate() {
+        return 0 == committed + aborted ? 0 : (double) aborted / (committed + aborted);
+    }
+    
+    public double getDeadlockRate() {
+        return 0 == committed + aborted ? 0 : (double) deadlocks / (committed + aborted);
+    }
+    
+    /**
+     * Get latency percentiles in microseconds of committed and aborted transfers.
+     *
+     * @return latency percentiles
+     */
+    public Map<String, Double> getLatencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,180 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.controller;
+
+import io.shardingsphere.example.jdbc.performance.test.load.LoadEngine;
+import io.shardingsphere.example.jdbc.performance.test.load.LoadOptions;
+import io.shardingsphere.example.jdbc.performance.test.load.LoadReport;
+import io.shardingsphere.example.jdbc.performance.test.service.BASETransactionalService;
+import io.shardingsphere.example.jdbc.performance.test.service.LocalTransactionalService;
+import io.shardingsphere.example.jdbc.performance.test.service.NoneTransactionalService;
+import io.shardingsphere.example.jdbc.performance.test.service.XATransactionalService;
+import io.shardingsphere.example.repository.mybatis.service.SpringPojoService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+@RestController
+@RequestMapping(value = "/jdbc/load")
+public final class LoadController {
+    
+    private final Map<String, Runnable> transactions = new LinkedHashMap<>();
+    
+    private final LoadEngine loadEngine = new LoadEngine();
+    
+    private final ExecutorService loadAllExecutor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+        
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            Thread result = new Thread(runnable, "load-all");
+            result.setDaemon(true);
+            return result;
+        }
+    });
+    
+    private final SpringPojoService springPojoService;
+    
+    private Future<List<LoadReport>> loadAllFuture;
+    
+    @Autowired
+    public LoadController(final LocalTransactionalService localTransactionalService, final XATransactionalService xaTransactionalService,
+                          final BASETransactionalService baseTransactionalService, final NoneTransactionalService noneTransactionalService,
+                          final SpringPojoService springPojoService) {
+        this.springPojoService = springPojoService;
+        transactions.put("local", new Runnable() {
+            
+            @Override
+            public void run() {
+                localTransactionalService.insertSuccess();
+            }
+        });
+        transactions.put("xa", new Runnable() {
+            
+            @Override
+            public void run() {
+                xaTransactionalService.insertSuccess();
+            }
+        });
+        transactions.put("base", new Runnable() {
+            
+            @Override
+            public void run() {
+                baseTransactionalService.insertSuccess();
+            }
+        });
+        transactions.put("none", new Runnable() {
+            
+            @Override
+            public void run() {
+                noneTransactionalService.insertSuccess();
+            }
+        });
+    }
+    
+    /**
+     * Start load of all transaction types one after another in background.
+     *
+     * <p>The whole run takes about 4 * (warm up + duration) seconds, so reports are fetched by {@code /jdbc/load/all/result}.</p>
+     *
+     * @param concurrency count of worker threads
+     * @param rate total operations per second, 0 means back to back
+     * @param duration measured duration in seconds
+     * @param warmUp warm up duration in seconds
+     * @return started message
+     */
+    @RequestMapping(value = "/all")
+    public synchronized String loadAll(@RequestParam(defaultValue = "8") final int concurrency, @RequestParam(defaultValue = "0") final int rate,
+                                       @RequestParam(defaultValue = "60") final int duration, @RequestParam(defaultValue = "10") final int warmUp) {
+        if (null != loadAllFuture && !loadAllFuture.isDone()) {
+            throw new IllegalStateException("Load of all transaction types is still running.");
+        }
+        final LoadOptions options = new LoadOptions(concurrency, rate, duration, warmUp);
+        loadAllFuture = loadAllExecutor.submit(new Callable<List<LoadReport>>() {
+            
+            @Override
+            public List<LoadReport> call() throws InterruptedException {
+                List<LoadReport> result = new ArrayList<>(transactions.size());
+                for (Map.Entry<String, Runnable> entry : transactions.entrySet()) {
+                    result.add(run(entry.getKey(), entry.getValue(), options));
+                }
+                return result;
+            }
+        });
+        return "started";
+    }
+    
+    /**
+     * Get reports of load started by {@code /jdbc/load/all}.
+     *
+     * @return load reports
+     * @throws InterruptedException interrupted exception
+     * @throws ExecutionException execution exception
+     */
+    @RequestMapping(value = "/all/result")
+    public synchronized List<LoadReport> loadAllResult() throws InterruptedException, ExecutionException {
+        if (null == loadAllFuture) {
+            throw new IllegalStateException("Load of all transaction types is not started.");
+        }
+        if (!loadAllFuture.isDone()) {
+            throw new IllegalStateException("Load of all transaction types is still running.");
+        }
+        return loadAllFuture.get();
+    }
+    
+    /**
+     * Run load of one transaction type.
+     *
+     * @param type transaction type, one of local, xa, base and none
+     * @param concurrency count of worker threads
+     * @param rate total operations per second, 0 means back to back
+     * @param duration measured duration in seconds
+     * @param warmUp warm up duration in seconds
+     * @return load report
+     * @throws InterruptedException interrupted exception
+     */
+    @RequestMapping(value = "/{type}")
+    public LoadReport load(@PathVariable("type") final String type, @RequestParam(defaultValue = "8") final int concurrency, @RequestParam(defaultValue = "0") final int rate,
+                           @RequestParam(defaultValue = "60") final int duration, @RequestParam(defaultValue = "10") final int warmUp) throws InterruptedException {
+        Runnable transaction = transactions.get(type.toLowerCase());
+        if (null == transaction) {
+            throw new UnsupportedOperationException(String.format("Can not find transaction type `%s`, available types are %s.", type, transactions.keySet()));
+        }
+        return run(type, transaction, new LoadOptions(concurrency, rate, duration, warmUp));
+    }
+    
+    private LoadReport run(final String name, final Runnable transaction, final LoadOptions options) throws InterruptedException {
+        try {
+            return loadEngine.run(name, transaction, options);
+        } finally {
+            springPojoService.initEnvironment();
+        }
+    }
+}
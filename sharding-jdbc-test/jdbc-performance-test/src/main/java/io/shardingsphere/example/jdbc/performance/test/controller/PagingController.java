@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.controller;
+
+import io.shardingsphere.example.jdbc.performance.test.paging.PageQuery;
+import io.shardingsphere.example.jdbc.performance.test.paging.PagingBenchmark;
+import io.shardingsphere.example.jdbc.performance.test.paging.PagingReport;
+import io.shardingsphere.example.repository.api.entity.Order;
+import io.shardingsphere.example.repository.api.repository.OrderRepository;
+import io.shardingsphere.example.repository.mybatis.repository.MybatisOrderRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping(value = "/jdbc/paging")
+public final class PagingController {
+    
+    private final PagingBenchmark pagingBenchmark = new PagingBenchmark();
+    
+    private final PageQuery keysetQuery;
+    
+    private final PageQuery offsetQuery;
+    
+    @Autowired
+    public PagingController(final OrderRepository orderRepository, final MybatisOrderRepository mybatisOrderRepository) {
+        keysetQuery = new PageQuery() {
+            
+            @Override
+            public List<Order> query(final long lastOrderId, final long offset, final int pageSize) {
+                return orderRepository.selectAfter(lastOrderId, pageSize);
+            }
+        };
+        offsetQuery = new PageQuery() {
+            
+            @Override
+            public List<Order> query(final long lastOrderId, final long offset, final int pageSize) {
+                return mybatisOrderRepository.selectPage(offset, pageSize);
+            }
+        };
+    }
+    
+    /**
+     * Page through existing orders by keyset pagination and by {@code LIMIT offset, n}, one after another.
+     *
+     * @param pageSize page size
+     * @param maxPages max pages of each paging
+     * @return paging reports of keyset and offset
+     */
+    @RequestMapping(value = "/compare")
+    public List<PagingReport> compare(@RequestParam(defaultValue = "100") final int pageSize, @RequestParam(defaultValue = "1000") final int maxPages) {
+        List<PagingReport> result = new ArrayList<>(2);
+        result.add(pagingBenchmark.run("keyset", keysetQuery, pageSize, maxPages));
+        result.add(pagingBenchmark.run("offset", offsetQuery, pageSize, maxPages));
+        return result;
+    }
+}
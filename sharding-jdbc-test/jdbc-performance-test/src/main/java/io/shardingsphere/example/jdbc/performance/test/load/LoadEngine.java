@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-process load engine.
+ *
+ * <p>With target rate, every worker owns a fixed schedule of intended start times and latency is measured from the intended start,
+ * so time spent waiting behind a slow operation is counted instead of silently omitted.</p>
+ */
+public final class LoadEngine {
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    /**
+     * Run transaction under load.
+     *
+     * @param name name of report
+     * @param transaction transaction to run
+     * @param options load options
+     * @return load report
+     * @throws InterruptedException interrupted exception
+     */
+    public LoadReport run(final String name, final Runnable transaction, final LoadOptions options) throws InterruptedException {
+        int concurrency = options.getConcurrency();
+        long intervalNanos = 0 == options.getTargetRate() ? 0L : TimeUnit.SECONDS.toNanos(concurrency) / options.getTargetRate();
+        long startNanos = System.nanoTime();
+        long measureStartNanos = startNanos + TimeUnit.SECONDS.toNanos(options.getWarmUpSeconds());
+        long endNanos = measureStartNanos + TimeUnit.SECONDS.toNanos(options.getDurationSeconds());
+        ExecutorService executorService = Executors.newFixedThreadPool(concurrency);
+        List<Future<LoadWorkerResult>> futures = new ArrayList<>(concurrency);
+        try {
+            for (int i = 0; i < concurrency; i++) {
+                long firstIntendedNanos = startNanos + intervalNanos * i / concurrency;
+                futures.add(executorService.submit(new LoadWorker(transaction, firstIntendedNanos, intervalNanos, measureStartNanos, endNanos)));
+            }
+            Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+            long errors = 0;
+            for (Future<LoadWorkerResult> each : futures) {
+                LoadWorkerResult workerResult = each.get();
+                histogram.add(workerResult.histogram);
+                errors += workerResult.errors;
+            }
+            return new LoadReport(name, options, histogram, errors);
+        } catch (final ExecutionException ex) {
+            throw new IllegalStateException(ex.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+    
+    private static final class LoadWorker implements Callable<LoadWorkerResult> {
+        
+        private final Runnable transaction;
+        
+        private final long firstIntendedNanos;
+        
+        private final long intervalNanos;
+        
+        private final long measureStartNanos;
+        
+        private final long endNanos;
+        
+        LoadWorker(final Runnable transaction, final long firstIntendedNanos, final long intervalNanos, final long measureStartNanos, final long endNanos) {
+            this.transaction = transaction;
+            this.firstIntendedNanos = firstIntendedNanos;
+            this.intervalNanos = intervalNanos;
+            this.measureStartNanos = measureStartNanos;
+            this.endNanos = endNanos;
+        }
+        
+        @Override
+        public LoadWorkerResult call() {
+            LoadWorkerResult result = new LoadWorkerResult();
+            long intendedNanos = firstIntendedNanos;
+            while (!Thread.currentThread().isInterrupted()) {
+                if (0 == intervalNanos) {
+                    intendedNanos = System.nanoTime();
+                } else {
+                    waitUntil(intendedNanos);
+                }
+                if (intendedNanos >= endNanos) {
+                    break;
+                }
+                boolean success = execute();
+                if (intendedNanos >= measureStartNanos) {
+                    result.histogram.recordValue(System.nanoTime() - intendedNanos);
+                    if (!success) {
+                        result.errors++;
+                    }
+                }
+                intendedNanos += intervalNanos;
+            }
+            return result;
+        }
+        
+        private void waitUntil(final long intendedNanos) {
+            long remainingNanos = intendedNanos - System.nanoTime();
+            while (remainingNanos > 0 && !Thread.currentThread().isInterrupted()) {
+                LockSupport.parkNanos(remainingNanos);
+                remainingNanos = intendedNanos - System.nanoTime();
+            }
+        }
+        
+        private boolean execute() {
+            try {
+                transaction.run();
+                return true;
+            } catch (final RuntimeException ex) {
+                return false;
+            }
+        }
+    }
+    
+    private static final class LoadWorkerResult {
+        
+        private final Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+        
+        private long errors;
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.load;
+
+/**
+ * Load options.
+ */
+public final class LoadOptions {
+    
+    private final int concurrency;
+    
+    private final int targetRate;
+    
+    private final int durationSeconds;
+    
+    private final int warmUpSeconds;
+    
+    /**
+     * Create load options.
+     *
+     * @param concurrency count of worker threads
+     * @param targetRate total operations per second, {@code 0} means each worker runs back to back without schedule
+     * @param durationSeconds measured duration in seconds
+     * @param warmUpSeconds warm up duration in seconds before measuring
+     */
+    public LoadOptions(final int concurrency, final int targetRate, final int durationSeconds, final int warmUpSeconds) {
+        if (concurrency <= 0 || targetRate < 0 || durationSeconds <= 0 || warmUpSeconds < 0) {
+            throw new IllegalArgumentException(String.format("Illegal load options, concurrency: %s, target rate: %s, duration: %s, warm up: %s.", concurrency, targetRate, durationSeconds, warmUpSeconds));
+        }
+        this.concurrency = concurrency;
+        this.targetRate = targetRate;
+        this.durationSeconds = durationSeconds;
+        this.warmUpSeconds = warmUpSeconds;
+    }
+    
+    public int getConcurrency() {
+        return concurrency;
+    }
+    
+    public int getTargetRate() {
+        return targetRate;
+    }
+    
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+    
+    public int getWarmUpSeconds() {
+        return warmUpSeconds;
+    }
+}
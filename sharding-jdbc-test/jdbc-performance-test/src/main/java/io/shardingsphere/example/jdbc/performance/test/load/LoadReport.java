@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.load;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Load report of one transaction type.
+ */
+public final class LoadReport {
+    
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9, 99.99};
+    
+    private final String name;
+    
+    private final LoadOptions options;
+    
+    private final long operations;
+    
+    private final long errors;
+    
+    private final double throughput;
+    
+    private final Map<String, Double> latencyMicros = new LinkedHashMap<>();
+    
+    LoadReport(final String name, final LoadOptions options, final Histogram histogram, final long errors) {
+        this.name = name;
+        this.options = options;
+        this.errors = errors;
+        operations = histogram.getTotalCount() - errors;
+        throughput = (double) operations / options.getDurationSeconds();
+        for (double each : PERCENTILES) {
+            latencyMicros.put("p" + each, toMicros(histogram.getValueAtPercentile(each)));
+        }
+        latencyMicros.put("max", toMicros(histogram.getMaxValue()));
+        latencyMicros.put("mean", histogram.getMean() / 1000D);
+    }
+    
+    private static double toMicros(final long nanos) {
+        return nanos / 1000D;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public LoadOptions getOptions() {
+        return options;
+    }
+    
+    public long getOperations() {
+        return operations;
+    }
+    
+    public long getErrors() {
+        return errors;
+    }
+    
+    /**
+     * Get successful operations per second in measured duration.
+     *
+     * @return throughput
+     */
+    public double getThroughput() {
+        return throughput;
+    }
+    
+    /**
+     * Get latency percentiles in microseconds, including errors.
+     *
+     * @return latency percentiles
+     */
+    public Map<String, Double> getLatencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.paging;
+
+import io.shardingsphere.example.repository.api.entity.Order;
+
+import java.util.List;
+
+/**
+ * Query of one page of orders.
+ */
+public interface PageQuery {
+    
+    /**
+     * Query page.
+     *
+     * @param lastOrderId last order id of previous page, 0 for first page
+     * @param offset count of orders in previous pages
+     * @param pageSize page size
+     * @return orders of page
+     */
+    List<Order> query(long lastOrderId, long offset, int pageSize);
+}
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.paging;
+
+import io.shardingsphere.example.repository.api.entity.Order;
+import org.HdrHistogram.Histogram;
+
+import java.util.List;
+
+/**
+ * Page through orders from first page and record latency of every page.
+ */
+public final class PagingBenchmark {
+    
+    private static final int SIGNIFICANT_DIGITS = 3;
+    
+    private static final int WARM_UP_PAGES = 10;
+    
+    /**
+     * Run paging.
+     *
+     * @param name name of report
+     * @param pageQuery page query
+     * @param pageSize page size
+     * @param maxPages max pages to query, paging stops earlier at last page
+     * @return paging report
+     */
+    public PagingReport run(final String name, final PageQuery pageQuery, final int pageSize, final int maxPages) {
+        if (pageSize <= 0 || maxPages <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal paging options, page size: %s, max pages: %s.", pageSize, maxPages));
+        }
+        warmUp(pageQuery, pageSize);
+        Histogram histogram = new Histogram(SIGNIFICANT_DIGITS);
+        PagingReport result = new PagingReport(name, pageSize);
+        long lastOrderId = 0L;
+        long offset = 0L;
+        long startNanos = System.nanoTime();
+        for (int page = 1; page <= maxPages; page++) {
+            long pageStartNanos = System.nanoTime();
+            List<Order> orders = pageQuery.query(lastOrderId, offset, pageSize);
+            long latencyNanos = System.nanoTime() - pageStartNanos;
+            histogram.recordValue(latencyNanos);
+            if (0 == (page & (page - 1))) {
+                result.addPageLatency(offset, latencyNanos);
+            }
+            if (orders.isEmpty()) {
+                break;
+            }
+            lastOrderId = orders.get(orders.size() - 1).getOrderId();
+            offset += orders.size();
+            if (orders.size() < pageSize) {
+                break;
+            }
+        }
+        result.complete(offset, System.nanoTime() - startNanos, histogram);
+        return result;
+    }
+    
+    private void warmUp(final PageQuery pageQuery, final int pageSize) {
+        long lastOrderId = 0L;
+        long offset = 0L;
+        for (int i = 0; i < WARM_UP_PAGES; i++) {
+            List<Order> orders = pageQuery.query(lastOrderId, offset, pageSize);
+            if (orders.isEmpty()) {
+                return;
+            }
+            lastOrderId = orders.get(orders.size() - 1).getOrderId();
+            offset += orders.size();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.performance.test.paging;
+
+import org.HdrHistogram.Histogram;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Paging report of one page query.
+ */
+public final class PagingReport {
+    
+    private static final double[] PERCENTILES = {50, 90, 99};
+    
+    private final String name;
+    
+    private final int pageSize;
+    
+    private final Map<Long, Double> latencyMicrosByOffset = new LinkedHashMap<>();
+    
+    private final Map<String, Double> latencyMicros = new LinkedHashMap<>();
+    
+    private long pages;
+    
+    private long rows;
+    
+    private double elapsedMillis;
+    
+    PagingReport(final String name, final int pageSize) {
+        this.name = name;
+        this.pageSize = pageSize;
+    }
+    
+    void addPageLatency(final long offset, final long latencyNanos) {
+        latencyMicrosByOffset.put(offset, toMicros(latencyNanos));
+    }
+    
+    void complete(final long rows, final long elapsedNanos, final Histogram histogram) {
+        this.rows = rows;
+        pages = histogram.getTotalCount();
+        elapsedMillis = elapsedNanos / 1000000D;
+        for (double each : PERCENTILES) {
+            latencyMicros.put("p" + each, toMicros(histogram.getValueAtPercentile(each)));
+        }
+        latencyMicros.put("max", toMicros(histogram.getMaxValue()));
+        latencyMicros.put("mean", histogram.getMean() / 1000D);
+    }
+    
+    private static double toMicros(final long nanos) {
+        return nanos / 1000D;
+    }
+    
+    public String getName() {
+        return name;
+    }
+    
+    public int getPageSize() {
+        return pageSize;
+    }
+    
+    public long getPages() {
+        return pages;
+    }
+    
+    public long getRows() {
+        return rows;
+    }
+    
+    public double getElapsedMillis() {
+        return elapsedMillis;
+    }
+    
+    /**
+     * Get latency percentiles of all pages in microseconds.
+     *
+     * @return latency percentiles
+     */
+    public Map<String, Double> getLatencyMicros() {
+        return latencyMicros;
+    }
+    
+    /**
+     * Get latency in microseconds of pages 1, 2, 4, 8 and so on, keyed by offset of page.
+     *
+     * @return latency by offset
+     */
+    public Map<Long, Double> getLatencyMicrosByOffset() {
+        return latencyMicrosByOffset;
+    }
+}
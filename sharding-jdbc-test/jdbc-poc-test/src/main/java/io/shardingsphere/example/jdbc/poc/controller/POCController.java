@@ -20,19 +20,30 @@ package io.shardingsphere.example.jdbc.poc.controller;
 import io.shardingsphere.example.jdbc.poc.domain.Order;
 import io.shardingsphere.example.jdbc.poc.domain.OrderItem;
 import io.shardingsphere.example.jdbc.poc.domain.RequestResult;
+import io.shardingsphere.example.jdbc.poc.loader.BulkLoader;
 import io.shardingsphere.example.jdbc.poc.service.POCService;
 import org.apache.shardingsphere.api.hint.HintManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * POC controller.
@@ -45,9 +56,12 @@ public final class POCController {
     
     private final POCService pocService;
     
+    private final BulkLoader bulkLoader;
+    
     @Autowired
-    public POCController(final POCService pocService) {
+    public POCController(final POCService pocService, final BulkLoader bulkLoader) {
         this.pocService = pocService;
+        this.bulkLoader = bulkLoader;
     }
     
     /**
@@ -82,6 +96,88 @@ public final class POCController {
         return result;
     }
     
+    /**
+     * Insert orders and order items by JDBC batches.
+     *
+     * @param count total count of orders
+     * @param batchSize count of orders per batch
+     * @return batch insert SQL once, inserted row count, batch count, elapsed time and throughput
+     */
+    @RequestMapping(value = "/insert/batch/{count}/{batchSize}")
+    @SuppressWarnings("unchecked")
+    public RequestResult insertBatch(@PathVariable("count") final int count, @PathVariable("batchSize") final int batchSize) {
+        if (count < 0 || batchSize <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal batch insert arguments, count: %s, batch size: %s.", count, batchSize));
+        }
+        RequestResult result = new RequestResult("OK");
+        long startNanos = System.nanoTime();
+        int batchCount = 0;
+        for (int i = 0; i < count; i += batchSize) {
+            int size = Math.min(batchSize, count - i);
+            List<Order> orders = new ArrayList<>(size);
+            List<OrderItem> orderItems = new ArrayList<>(size);
+            for (int j = i; j < i + size; j++) {
+                Order order = new Order();
+                order.setUserId(j);
+                order.setAmount(100 + j);
+                order.setStatus("01");
+                orders.add(order);
+                OrderItem orderItem = new OrderItem();
+                orderItem.setUserId(j);
+                orderItem.setAmount(100 + j);
+                orderItem.setStatus("01");
+                orderItems.add(orderItem);
+            }
+            RequestResult batchResult = pocService.insertBatch(orders, orderItems);
+            if (0 == batchCount++) {
+                result.getSql().addAll(batchResult.getSql());
+            }
+        }
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("t_order", count);
+        summary.put("t_order_item", count);
+        summary.put("batch_size", batchSize);
+        summary.put("batch_count", batchCount);
+        summary.put("elapsed_ms", elapsedMillis);
+        summary.put("rows_per_second", 2L * count * 1000L / elapsedMillis);
+        result.getDetails().add(summary);
+        return result;
+    }
+    
+    /**
+     * Bulk load orders and order items into physical tables resolved by sharding rule.
+     *
+     * @param count count of orders
+     * @param batchRows max rows of one multi-row insert
+     * @param threads count of worker threads
+     * @return loaded rows, nodes, elapsed time and throughput
+     * @throws Exception exception
+     */
+    @RequestMapping(value = "/load/{count}")
+    @SuppressWarnings("unchecked")
+    public RequestResult load(@PathVariable("count") final int count, @RequestParam(value = "batchRows", defaultValue = "1000") final int batchRows,
+                              @RequestParam(value = "threads", defaultValue = "8") final int threads) throws Exception {
+        RequestResult result = new RequestResult("OK");
+        result.getDetails().add(bulkLoader.load(count, batchRows, threads));
+        return result;
+    }
+    
+    /**
+     * Reject illegal request arguments with bad request status.
+     *
+     * @param ex illegal argument exception
+     * @return request result with error message
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    @SuppressWarnings("unchecked")
+    public RequestResult handleIllegalArgument(final IllegalArgumentException ex) {
+        RequestResult result = new RequestResult("BAD_REQUEST");
+        result.getDetails().add(Collections.singletonMap("message", ex.getMessage()));
+        return result;
+    }
+    
     @SuppressWarnings("unchecked")
     private Map<String, Integer> getOrderRecord(final RequestResult requestResult) {
         Map<String, Set<Long>> recordGroup = new HashMap<>();
@@ -120,6 +216,33 @@ public final class POCController {
         return pocService.select(sql);
     }
     
+    /**
+     * Query and stream rows to response as newline delimited JSON.
+     *
+     * <p>
+     * Rows are streamed only if sharding merges them by stream and the driver streams result set (MySQL),
+     * memory merge such as ORDER BY or GROUP BY across shards and CONNECTION_STRICTLY mode still load all rows in memory.
+     * </p>
+     *
+     * @param sql SQL
+     * @param masterOnly route to master only or not
+     * @param response HTTP servlet response
+     * @throws IOException IO exception
+     */
+    @RequestMapping(value = "/query/stream")
+    public void queryStream(final String sql, final boolean masterOnly, final HttpServletResponse response) throws IOException {
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding("UTF-8");
+        if (masterOnly) {
+            try (HintManager hintManager = HintManager.getInstance()) {
+                hintManager.setMasterRouteOnly();
+                pocService.select(sql, response.getOutputStream());
+                return;
+            }
+        }
+        pocService.select(sql, response.getOutputStream());
+    }
+    
     @RequestMapping(value = "/delete")
     public RequestResult delete(String sql) {
         return pocService.delete(sql);
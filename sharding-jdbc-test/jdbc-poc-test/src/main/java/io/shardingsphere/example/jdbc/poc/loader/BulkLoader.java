@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.loader;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.shardingsphere.example.jdbc.poc.service.POCKeyGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Bulk load orders and order items straight into physical tables.
+ *
+ * <p>Target node of each generated row is resolved by the configured sharding rule, rows are grouped per node
+ * and every group is written by one multi-row insert in its own transaction on a bounded worker pool.
+ * Physical data sources are opened from the same properties, master-slave profiles are not supported.
+ * MySQL allows at most 65535 placeholders in one statement, so rows of one insert are bounded by the widest table.</p>
+ */
+@Component
+public final class BulkLoader {
+    
+    private static final String DATA_SOURCE_PREFIX = "spring.shardingsphere.datasource.";
+    
+    private static final String[] ORDER_COLUMNS = {"order_id", "user_id", "amount", "status"};
+    
+    private static final String[] ORDER_ITEM_COLUMNS = {"order_item_id", "order_id", "user_id", "amount", "status"};
+    
+    private static final int MAX_BATCH_ROWS = 65535 / ORDER_ITEM_COLUMNS.length;
+    
+    private final Environment environment;
+    
+    private final POCKeyGenerator keyGenerator;
+    
+    @Autowired
+    public BulkLoader(final Environment environment, final POCKeyGenerator keyGenerator) {
+        this.environment = environment;
+        this.keyGenerator = keyGenerator;
+    }
+    
+    /**
+     * Load orders and order items.
+     *
+     * @param count count of orders, each order has one order item
+     * @param batchRows max rows of one multi-row insert, at most 13107
+     * @param threads count of worker threads and max connections per data source
+     * @return loaded rows, node count, elapsed time and throughput
+     * @throws ReflectiveOperationException reflective operation exception
+     * @throws InterruptedException interrupted exception
+     * @throws SQLException SQL exception
+     */
+    public Map<String, Object> load(final int count, final int batchRows, final int threads) throws ReflectiveOperationException, InterruptedException, SQLException {
+        if (count < 0 || batchRows <= 0 || batchRows > MAX_BATCH_ROWS || threads <= 0) {
+            throw new IllegalArgumentException(String.format("Illegal bulk load arguments, count: %s, batch rows: %s must be in [1, %s], threads: %s.", count, batchRows, MAX_BATCH_ROWS, threads));
+        }
+        ShardingNodeResolver orderResolver = new ShardingNodeResolver(environment, "t_order");
+        ShardingNodeResolver orderItemResolver = new ShardingNodeResolver(environment, "t_order_item");
+        Set<String> dataSourceNames = new LinkedHashSet<>(orderResolver.getDataSourceNames());
+        dataSourceNames.addAll(orderItemResolver.getDataSourceNames());
+        Map<String, HikariDataSource> dataSources = createDataSources(dataSourceNames, threads);
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<Runnable>(threads * 2), new ThreadPoolExecutor.CallerRunsPolicy());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        AtomicLong loadedRows = new AtomicLong();
+        Map<String, List<Object[]>> orderBuffers = new LinkedHashMap<>();
+        Map<String, List<Object[]>> orderItemBuffers = new LinkedHashMap<>();
+        long startNanos = System.nanoTime();
+        try {
+            Map<String, Comparable<?>> shardingValues = new HashMap<>(2, 1);
+            for (int i = 0; i < count && null == error.get(); i++) {
+                long orderId = keyGenerator.generateKey();
+                long orderItemId = keyGenerator.generateKey();
+                shardingValues.put("order_id", orderId);
+                shardingValues.put("user_id", i);
+                bufferRow(orderBuffers, orderResolver.resolve(shardingValues), new Object[] {orderId, i, 100 + i, "01"},
+                        batchRows, ORDER_COLUMNS, dataSources, executor, error, loadedRows);
+                bufferRow(orderItemBuffers, orderItemResolver.resolve(shardingValues), new Object[] {orderItemId, orderId, i, 100 + i, "01"},
+                        batchRows, ORDER_ITEM_COLUMNS, dataSources, executor, error, loadedRows);
+            }
+            flushAll(orderBuffers, ORDER_COLUMNS, dataSources, executor, error, loadedRows);
+            flushAll(orderItemBuffers, ORDER_ITEM_COLUMNS, dataSources, executor, error, loadedRows);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            for (HikariDataSource each : dataSources.values()) {
+                each.close();
+            }
+        }
+        rethrow(error.get());
+        long elapsedMillis = Math.max(1L, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        Set<String> nodes = new LinkedHashSet<>(orderBuffers.keySet());
+        nodes.addAll(orderItemBuffers.keySet());
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("t_order", count);
+        result.put("t_order_item", count);
+        result.put("nodes", nodes);
+        result.put("batch_rows", batchRows);
+        result.put("threads", threads);
+        result.put("elapsed_ms", elapsedMillis);
+        result.put("rows_per_second", loadedRows.get() * 1000L / elapsedMillis);
+        return result;
+    }
+    
+    private void rethrow(final Throwable error) throws SQLException {
+        if (null == error) {
+            return;
+        }
+        if (error instanceof SQLException) {
+            throw (SQLException) error;
+        }
+        if (error instanceof RuntimeException) {
+            throw (RuntimeException) error;
+        }
+        if (error instanceof Error) {
+            throw (Error) error;
+        }
+        throw new IllegalStateException(error);
+    }
+    
+    private Map<String, HikariDataSource> createDataSources(final Set<String> dataSourceNames, final int threads) {
+        Map<String, HikariDataSource> result = new HashMap<>(dataSourceNames.size(), 1);
+        for (String each : dataSourceNames) {
+            String prefix = DATA_SOURCE_PREFIX + each + ".";
+            String jdbcUrl = environment.getProperty(prefix + "jdbc-url", environment.getProperty(prefix + "url"));
+            if (null == jdbcUrl) {
+                for (HikariDataSource dataSource : result.values()) {
+                    dataSource.close();
+                }
+                throw new UnsupportedOperationException(String.format("Can not find physical data source `%s`, master-slave is not supported by bulk load.", each));
+            }
+            HikariDataSource dataSource = new HikariDataSource();
+            dataSource.setPoolName("bulk-load-" + each);
+            dataSource.setDriverClassName(environment.getProperty(prefix + "driver-class-name"));
+            dataSource.setJdbcUrl(jdbcUrl);
+            dataSource.setUsername(environment.getProperty(prefix + "username"));
+            dataSource.setPassword(environment.getProperty(prefix + "password"));
+            dataSource.setMaximumPoolSize(threads);
+            result.put(each, dataSource);
+        }
+        return result;
+    }
+    
+    private void bufferRow(final Map<String, List<Object[]>> buffers, final String node, final Object[] row, final int batchRows, final String[] columns,
+                           final Map<String, HikariDataSource> dataSources, final ThreadPoolExecutor executor, final AtomicReference<Throwable> error, final AtomicLong loadedRows) {
+        List<Object[]> buffer = buffers.get(node);
+        if (null == buffer) {
+            buffer = new ArrayList<>(batchRows);
+            buffers.put(node, buffer);
+        }
+        buffer.add(row);
+        if (buffer.size() >= batchRows) {
+            executor.execute(new InsertTask(node, columns, buffer, dataSources, error, loadedRows));
+            buffers.put(node, new ArrayList<Object[]>(batchRows));
+        }
+    }
+    
+    private void flushAll(final Map<String, List<Object[]>> buffers, final String[] columns,
+                          final Map<String, HikariDataSource> dataSources, final ThreadPoolExecutor executor, final AtomicReference<Throwable> error, final AtomicLong loadedRows) {
+        for (Map.Entry<String, List<Object[]>> entry : buffers.entrySet()) {
+            if (!entry.getValue().isEmpty() && null == error.get()) {
+                executor.execute(new InsertTask(entry.getKey(), columns, entry.getValue(), dataSources, error, loadedRows));
+            }
+        }
+    }
+    
+    private static final class InsertTask implements Runnable {
+        
+        private final String dataSourceName;
+        
+        private final String actualTable;
+        
+        private final String[] columns;
+        
+        private final List<Object[]> rows;
+        
+        private final Map<String, HikariDataSource> dataSources;
+        
+        private final AtomicReference<Throwable> error;
+        
+        private final AtomicLong loadedRows;
+        
+        InsertTask(final String node, final String[] columns, final List<Object[]> rows,
+                   final Map<String, HikariDataSource> dataSources, final AtomicReference<Throwable> error, final AtomicLong loadedRows) {
+            int index = node.indexOf('.');
+            dataSourceName = node.substring(0, index);
+            actualTable = node.substring(index + 1);
+            this.columns = columns;
+            this.rows = rows;
+            this.dataSources = dataSources;
+            this.error = error;
+            this.loadedRows = loadedRows;
+        }
+        
+        @Override
+        public void run() {
+            if (null != error.get()) {
+                return;
+            }
+            try (Connection connection = dataSources.get(dataSourceName).getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement preparedStatement = connection.prepareStatement(createInsertSQL())) {
+                    int parameterIndex = 1;
+                    for (Object[] each : rows) {
+                        for (Object value : each) {
+                            preparedStatement.setObject(parameterIndex++, value);
+                        }
+                    }
+                    preparedStatement.executeUpdate();
+                    connection.commit();
+                    loadedRows.addAndGet(rows.size());
+                } catch (final Throwable ex) {
+                    connection.rollback();
+                    throw ex;
+                }
+            } catch (final Throwable ex) {
+                error.compareAndSet(null, ex);
+            }
+        }
+        
+        private String createInsertSQL() {
+            StringBuilder result = new StringBuilder(32 + rows.size() * columns.length * 3);
+            result.append("INSERT INTO ").append(actualTable).append(" (");
+            StringBuilder values = new StringBuilder("(");
+            for (int i = 0; i < columns.length; i++) {
+                if (i > 0) {
+                    result.append(", ");
+                    values.append(", ");
+                }
+                result.append(columns[i]);
+                values.append('?');
+            }
+            values.append(')');
+            result.append(") VALUES ");
+            for (int i = 0; i < rows.size(); i++) {
+                if (i > 0) {
+                    result.append(", ");
+                }
+                result.append(values);
+            }
+            return result.toString();
+        }
+    }
+}
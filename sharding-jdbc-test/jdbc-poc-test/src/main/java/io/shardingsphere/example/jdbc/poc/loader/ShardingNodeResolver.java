@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.loader;
+
+import io.shardingsphere.example.analysis.InlineExpressionShardRouter;
+import io.shardingsphere.example.analysis.PreciseAlgorithmShardRouter;
+import io.shardingsphere.example.analysis.ShardRouter;
+import org.apache.shardingsphere.api.sharding.standard.PreciseShardingAlgorithm;
+import org.apache.shardingsphere.core.util.InlineExpressionParser;
+import org.springframework.core.env.Environment;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolve physical data node of a row from sharding rule configured by Spring Boot properties.
+ *
+ * <p>Inline and standard strategies of table or default are supported, complex and hint strategies are not.</p>
+ */
+final class ShardingNodeResolver {
+    
+    private static final String SHARDING_PREFIX = "spring.shardingsphere.sharding.";
+    
+    private final String logicTable;
+    
+    private final Collection<String> dataSourceNames = new LinkedHashSet<>();
+    
+    private final Collection<String> tableNames = new LinkedHashSet<>();
+    
+    private final String databaseShardingColumn;
+    
+    private final ShardRouter databaseRouter;
+    
+    private final String tableShardingColumn;
+    
+    private final ShardRouter tableRouter;
+    
+    ShardingNodeResolver(final Environment environment, final String logicTable) throws ReflectiveOperationException {
+        this.logicTable = logicTable;
+        String tablePrefix = SHARDING_PREFIX + "tables." + logicTable + ".";
+        String actualDataNodes = environment.getProperty(tablePrefix + "actual-data-nodes");
+        if (null == actualDataNodes) {
+            for (String each : environment.getRequiredProperty("spring.shardingsphere.datasource.names").split(",")) {
+                dataSourceNames.add(each.trim());
+            }
+            tableNames.add(logicTable);
+        } else {
+            List<String> dataNodes = new InlineExpressionParser(actualDataNodes.replace("$->{", "${")).splitAndEvaluate();
+            for (String each : dataNodes) {
+                int index = each.indexOf('.');
+                dataSourceNames.add(each.substring(0, index).trim());
+                tableNames.add(each.substring(index + 1).trim());
+            }
+        }
+        String databaseStrategyPrefix = getStrategyPrefix(environment, tablePrefix + "database-strategy.", SHARDING_PREFIX + "default-database-strategy.");
+        databaseShardingColumn = getShardingColumn(environment, databaseStrategyPrefix);
+        databaseRouter = createRouter(environment, databaseStrategyPrefix, dataSourceNames);
+        String tableStrategyPrefix = getStrategyPrefix(environment, tablePrefix + "table-strategy.", SHARDING_PREFIX + "default-table-strategy.");
+        tableShardingColumn = getShardingColumn(environment, tableStrategyPrefix);
+        tableRouter = createRouter(environment, tableStrategyPrefix, tableNames);
+    }
+    
+    private String getStrategyPrefix(final Environment environment, final String tableStrategyPrefix, final String defaultStrategyPrefix) {
+        for (String each : new String[] {tableStrategyPrefix, defaultStrategyPrefix}) {
+            if (null != getShardingColumn(environment, each)) {
+                return each;
+            }
+            if (null != environment.getProperty(each + "complex.sharding-columns") || null != environment.getProperty(each + "hint.algorithm-class-name")) {
+                throw new UnsupportedOperationException(String.format("Complex and hint strategies of `%s` can not be resolved for bulk load.", logicTable));
+            }
+        }
+        return null;
+    }
+    
+    private String getShardingColumn(final Environment environment, final String strategyPrefix) {
+        if (null == strategyPrefix) {
+            return null;
+        }
+        String result = environment.getProperty(strategyPrefix + "inline.sharding-column");
+        return null == result ? environment.getProperty(strategyPrefix + "standard.sharding-column") : result;
+    }
+    
+    private ShardRouter createRouter(final Environment environment, final String strategyPrefix, final Collection<String> targets) throws ReflectiveOperationException {
+        if (null == strategyPrefix) {
+            return null;
+        }
+        String algorithmExpression = environment.getProperty(strategyPrefix + "inline.algorithm-expression");
+        if (null != algorithmExpression) {
+            return new InlineExpressionShardRouter(algorithmExpression, environment.getProperty(strategyPrefix + "inline.sharding-column"));
+        }
+        PreciseShardingAlgorithm<Comparable<?>> algorithm = PreciseAlgorithmShardRouter.newAlgorithm(environment.getRequiredProperty(strategyPrefix + "standard.precise-algorithm-class-name"));
+        return new PreciseAlgorithmShardRouter(algorithm, targets, logicTable, environment.getProperty(strategyPrefix + "standard.sharding-column"));
+    }
+    
+    Collection<String> getDataSourceNames() {
+        return dataSourceNames;
+    }
+    
+    /**
+     * Resolve data node.
+     *
+     * @param shardingValues values of sharding columns
+     * @return data source name and actual table name joined by dot
+     */
+    String resolve(final Map<String, Comparable<?>> shardingValues) {
+        return route(databaseRouter, databaseShardingColumn, shardingValues, dataSourceNames) + "." + route(tableRouter, tableShardingColumn, shardingValues, tableNames);
+    }
+    
+    private String route(final ShardRouter router, final String shardingColumn, final Map<String, Comparable<?>> shardingValues, final Collection<String> targets) {
+        if (null == router) {
+            if (1 != targets.size()) {
+                throw new UnsupportedOperationException(String.format("Can not resolve one of %s for `%s` without sharding strategy.", targets, logicTable));
+            }
+            return targets.iterator().next();
+        }
+        Comparable<?> value = shardingValues.get(shardingColumn);
+        if (null == value) {
+            throw new IllegalArgumentException(String.format("Sharding column `%s` of `%s` has no value.", shardingColumn, logicTable));
+        }
+        return router.route(value);
+    }
+}
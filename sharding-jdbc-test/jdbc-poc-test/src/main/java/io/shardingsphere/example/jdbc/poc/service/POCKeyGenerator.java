@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.service;
+
+import org.apache.shardingsphere.core.strategy.keygen.SnowflakeShardingKeyGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.util.Properties;
+
+/**
+ * Key generator for keys assigned by application instead of sharding rule.
+ *
+ * <p>
+ * Worker id of sharding rule's SNOWFLAKE key generator is 0 by default,
+ * so this generator must use another worker id to avoid duplicated keys in the same JVM.
+ * </p>
+ */
+@Component
+public final class POCKeyGenerator {
+    
+    private static final String WORKER_ID_KEY = "poc.key-generator.worker-id";
+    
+    private static final String DEFAULT_WORKER_ID = "1";
+    
+    private final SnowflakeShardingKeyGenerator keyGenerator = new SnowflakeShardingKeyGenerator();
+    
+    @Autowired
+    public POCKeyGenerator(final Environment environment) {
+        Properties properties = new Properties();
+        properties.setProperty("worker.id", environment.getProperty(WORKER_ID_KEY, DEFAULT_WORKER_ID));
+        keyGenerator.setProperties(properties);
+    }
+    
+    /**
+     * Generate key.
+     *
+     * @return generated key
+     */
+    public long generateKey() {
+        return ((Number) keyGenerator.generateKey()).longValue();
+    }
+}
@@ -21,7 +21,9 @@ import io.shardingsphere.example.jdbc.poc.domain.Order;
 import io.shardingsphere.example.jdbc.poc.domain.OrderItem;
 import io.shardingsphere.example.jdbc.poc.domain.RequestResult;
 
+import java.io.OutputStream;
 import java.sql.SQLException;
+import java.util.List;
 
 /**
  * POC service.
@@ -38,8 +40,26 @@ public interface POCService {
     
     RequestResult insert(final Order order, final OrderItem item);
     
+    /**
+     * Insert orders and order items by JDBC batch.
+     *
+     * @param orders orders
+     * @param items order items, item at index {@code i} belongs to order at index {@code i}
+     * @return request result
+     */
+    RequestResult insertBatch(final List<Order> orders, final List<OrderItem> items);
+    
     RequestResult select(final String sql);
     
+    /**
+     * Select by forward only result set and write each row to output stream as one line of JSON.
+     *
+     * @param sql SQL
+     * @param outputStream output stream
+     * @return count of written rows
+     */
+    long select(final String sql, final OutputStream outputStream);
+    
     RequestResult delete(final String sql);
     
     RequestResult update(final String sql);
@@ -17,25 +17,37 @@
 
 package io.shardingsphere.example.jdbc.poc.service;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.shardingsphere.example.jdbc.poc.domain.Dictionary;
 import io.shardingsphere.example.jdbc.poc.domain.Order;
 import io.shardingsphere.example.jdbc.poc.domain.OrderItem;
 import io.shardingsphere.example.jdbc.poc.domain.RequestResult;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
 import org.springframework.jdbc.support.KeyHolder;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
 import java.sql.Statement;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -46,11 +58,23 @@ import java.util.Map;
 @Component
 public class POCServiceImpl implements POCService {
     
+    /**
+     * MySQL driver streams rows one by one only for forward only, read only result set with this fetch size, other drivers reject negative fetch size.
+     */
+    private static final int MYSQL_STREAM_FETCH_SIZE = Integer.MIN_VALUE;
+    
+    private static final String MYSQL_URL_PREFIX = "jdbc:mysql:";
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
     private final JdbcTemplate jdbcTemplate;
     
+    private final POCKeyGenerator keyGenerator;
+    
     @Autowired
-    public POCServiceImpl(final JdbcTemplate jdbcTemplate) {
+    public POCServiceImpl(final JdbcTemplate jdbcTemplate, final POCKeyGenerator keyGenerator) {
         this.jdbcTemplate = jdbcTemplate;
+        this.keyGenerator = keyGenerator;
     }
     
     @Override
@@ -93,6 +117,73 @@ public class POCServiceImpl implements POCService {
         return createRequestResult(orderItem);
     }
     
+    @Override
+    @SuppressWarnings("unchecked")
+    public RequestResult insertBatch(final List<Order> orders, final List<OrderItem> items) {
+        generateKeys(orders, items);
+        batchInsertOrders(orders);
+        batchInsertItems(items);
+        Map<String, Object> summary = new HashMap<>();
+        summary.put("t_order", orders.size());
+        summary.put("t_order_item", items.size());
+        RequestResult result = RequestResult.ok();
+        result.getDetails().add(summary);
+        result.getSql().addAll(Arrays.asList(SQLConstant.BATCH_INSERT_T_ORDER, SQLConstant.BATCH_INSERT_T_ORDER_ITEM));
+        return result;
+    }
+    
+    /**
+     * Sharding JDBC batch does not return one generated key per batched row, so keys are generated in bulk before the batch.
+     */
+    private void generateKeys(final List<Order> orders, final List<OrderItem> items) {
+        for (int i = 0; i < orders.size(); i++) {
+            Order order = orders.get(i);
+            order.setOrderId(keyGenerator.generateKey());
+            OrderItem item = items.get(i);
+            item.setOrderId(order.getOrderId());
+            item.setOrderItemId(keyGenerator.generateKey());
+        }
+    }
+    
+    private void batchInsertOrders(final List<Order> orders) {
+        jdbcTemplate.batchUpdate(SQLConstant.BATCH_INSERT_T_ORDER, new BatchPreparedStatementSetter() {
+            
+            @Override
+            public void setValues(final PreparedStatement preparedStatement, final int i) throws SQLException {
+                Order order = orders.get(i);
+                preparedStatement.setLong(1, order.getOrderId());
+                preparedStatement.setInt(2, order.getUserId());
+                preparedStatement.setDouble(3, order.getAmount());
+                preparedStatement.setString(4, order.getStatus());
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return orders.size();
+            }
+        });
+    }
+    
+    private void batchInsertItems(final List<OrderItem> items) {
+        jdbcTemplate.batchUpdate(SQLConstant.BATCH_INSERT_T_ORDER_ITEM, new BatchPreparedStatementSetter() {
+            
+            @Override
+            public void setValues(final PreparedStatement preparedStatement, final int i) throws SQLException {
+                OrderItem item = items.get(i);
+                preparedStatement.setLong(1, item.getOrderItemId());
+                preparedStatement.setLong(2, item.getOrderId());
+                preparedStatement.setInt(3, item.getUserId());
+                preparedStatement.setDouble(4, item.getAmount());
+                preparedStatement.setString(5, item.getStatus());
+            }
+            
+            @Override
+            public int getBatchSize() {
+                return items.size();
+            }
+        });
+    }
+    
     private RequestResult insert(final Dictionary dictionary) {
         insertDict(dictionary);
         return createRequestResult(dictionary);
@@ -107,6 +198,55 @@ public class POCServiceImpl implements POCService {
         return result;
     }
     
+    @Override
+    public long select(final String sql, final OutputStream outputStream) {
+        final PreparedStatementCreator streamPrepareStatementCreator = new PreparedStatementCreator() {
+            @Override
+            public PreparedStatement createPreparedStatement(final Connection connection) throws SQLException {
+                PreparedStatement result = connection.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                String url = connection.getMetaData().getURL();
+                if (null != url && url.startsWith(MYSQL_URL_PREFIX)) {
+                    result.setFetchSize(MYSQL_STREAM_FETCH_SIZE);
+                }
+                return result;
+            }
+        };
+        return jdbcTemplate.query(streamPrepareStatementCreator, new ResultSetExtractor<Long>() {
+            @Override
+            public Long extractData(final ResultSet resultSet) throws SQLException, DataAccessException {
+                try {
+                    return writeRows(resultSet, outputStream);
+                } catch (final IOException ex) {
+                    throw new DataAccessResourceFailureException("Write streaming result failed.", ex);
+                }
+            }
+        });
+    }
+    
+    private long writeRows(final ResultSet resultSet, final OutputStream outputStream) throws SQLException, IOException {
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        int columnCount = metaData.getColumnCount();
+        String[] columnNames = new String[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnNames[i] = JdbcUtils.lookupColumnName(metaData, i + 1);
+        }
+        long result = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            while (resultSet.next()) {
+                generator.writeStartObject();
+                for (int i = 0; i < columnCount; i++) {
+                    generator.writeObjectField(columnNames[i], JdbcUtils.getResultSetValue(resultSet, i + 1));
+                }
+                generator.writeEndObject();
+                generator.writeRaw('\n');
+                result++;
+            }
+        }
+        return result;
+    }
+    
     @Override
     @SuppressWarnings("unchecked")
     public RequestResult delete(final String sql) {
@@ -39,6 +39,10 @@ class SQLConstant {
     
     public static final String INSERT_T_ORDER_ITEM = "INSERT INTO t_order_item (order_id, user_id, amount, status) VALUES (?, ?, ?, ?)";
     
+    public static final String BATCH_INSERT_T_ORDER = "INSERT INTO t_order (order_id, user_id, amount, status) VALUES (?, ?, ?, ?)";
+    
+    public static final String BATCH_INSERT_T_ORDER_ITEM = "INSERT INTO t_order_item (order_item_id, order_id, user_id, amount, status) VALUES (?, ?, ?, ?, ?)";
+    
     public static final String INSERT_T_DICT = "INSERT INTO t_dictionary (code, code_name) VALUES (?, ?)";
     
     public static final String DROP_T_ORDER = "DROP TABLE IF EXISTS t_order";
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency aware slave database load-balance algorithm.
+ *
+ * <p>Picks two random slaves and routes to the one with lower EWMA latency weighted by in-flight connections (power of two choices).
+ * Slave data sources must be {@link LatencyTrackingDataSource} to feed latency statistics.</p>
+ */
+public final class LatencyMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final String DECAY_MILLISECONDS_KEY = "latency.decay.milliseconds";
+    
+    private static final long DEFAULT_DECAY_MILLISECONDS = 10000L;
+    
+    private volatile Properties properties = new Properties();
+    
+    private volatile long decayNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_DECAY_MILLISECONDS);
+    
+    @Override
+    public Properties getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        Object decayValue = properties.get(DECAY_MILLISECONDS_KEY);
+        decayNanos = TimeUnit.MILLISECONDS.toNanos(null == decayValue ? DEFAULT_DECAY_MILLISECONDS : Long.parseLong(decayValue.toString().trim()));
+    }
+    
+    @Override
+    public String getType() {
+        return "LATENCY";
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        int size = slaveDataSourceNames.size();
+        if (1 == size) {
+            return slaveDataSourceNames.get(0);
+        }
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int first = random.nextInt(size);
+        int second = random.nextInt(size - 1);
+        if (second >= first) {
+            second++;
+        }
+        long now = System.nanoTime();
+        return getScore(slaveDataSourceNames.get(first), now) <= getScore(slaveDataSourceNames.get(second), now)
+                ? slaveDataSourceNames.get(first) : slaveDataSourceNames.get(second);
+    }
+    
+    private double getScore(final String dataSourceName, final long nowNanos) {
+        LatencyStatistics statistics = LatencyStatisticsRegistry.getInstance().find(dataSourceName);
+        return null == statistics ? 0 : statistics.getScore(nowNanos, decayNanos);
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Latency statistics of one data source, EWMA of connection hold time and count of in-flight connections.
+ */
+public final class LatencyStatistics {
+    
+    private static final double EWMA_ALPHA = 0.2;
+    
+    private final AtomicInteger inFlight = new AtomicInteger();
+    
+    private final AtomicLong ewmaNanosBits = new AtomicLong(Double.doubleToRawLongBits(0));
+    
+    private volatile long lastUpdateNanos;
+    
+    /**
+     * Mark connection acquired.
+     */
+    public void acquire() {
+        inFlight.incrementAndGet();
+    }
+    
+    /**
+     * Mark connection released and record its hold time.
+     *
+     * @param acquireNanos nano time when connection was acquired
+     */
+    public void release(final long acquireNanos) {
+        inFlight.decrementAndGet();
+        long now = System.nanoTime();
+        double latency = now - acquireNanos;
+        while (true) {
+            long currentBits = ewmaNanosBits.get();
+            double current = Double.longBitsToDouble(currentBits);
+            double updated = 0 == lastUpdateNanos ? latency : current + EWMA_ALPHA * (latency - current);
+            if (ewmaNanosBits.compareAndSet(currentBits, Double.doubleToRawLongBits(updated))) {
+                break;
+            }
+        }
+        lastUpdateNanos = now;
+    }
+    
+    /**
+     * Get load score, lower is better.
+     *
+     * <p>EWMA decays with idle time, so a replica which was slow and lost its traffic is probed again later.</p>
+     *
+     * @param nowNanos current nano time
+     * @param decayNanos decay time constant
+     * @return load score
+     */
+    public double getScore(final long nowNanos, final long decayNanos) {
+        double ewma = Double.longBitsToDouble(ewmaNanosBits.get());
+        long idleNanos = nowNanos - lastUpdateNanos;
+        if (idleNanos > 0) {
+            ewma *= Math.exp(-(double) idleNanos / decayNanos);
+        }
+        return ewma * (inFlight.get() + 1);
+    }
+    
+    /**
+     * Get EWMA latency in nanoseconds.
+     *
+     * @return EWMA latency
+     */
+    public double getEwmaNanos() {
+        return Double.longBitsToDouble(ewmaNanosBits.get());
+    }
+    
+    /**
+     * Get in-flight connection count.
+     *
+     * @return in-flight connection count
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Latency statistics registry shared by tracking data sources and load-balance algorithm.
+ */
+public final class LatencyStatisticsRegistry {
+    
+    private static final LatencyStatisticsRegistry INSTANCE = new LatencyStatisticsRegistry();
+    
+    private final ConcurrentMap<String, LatencyStatistics> statistics = new ConcurrentHashMap<>();
+    
+    private LatencyStatisticsRegistry() {
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static LatencyStatisticsRegistry getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Get or create latency statistics.
+     *
+     * @param dataSourceName data source name
+     * @return latency statistics
+     */
+    public LatencyStatistics getOrCreate(final String dataSourceName) {
+        LatencyStatistics result = statistics.get(dataSourceName);
+        if (null != result) {
+            return result;
+        }
+        statistics.putIfAbsent(dataSourceName, new LatencyStatistics());
+        return statistics.get(dataSourceName);
+    }
+    
+    /**
+     * Find latency statistics.
+     *
+     * @param dataSourceName data source name
+     * @return latency statistics, null if data source has no traffic yet
+     */
+    public LatencyStatistics find(final String dataSourceName) {
+        return statistics.get(dataSourceName);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Hikari data source which records connection hold time and in-flight count into {@link LatencyStatisticsRegistry}.
+ *
+ * <p>Statistics are keyed by pool name, which must be configured as the data source name, e.g. `pool-name=ds_slave_0`.</p>
+ */
+public final class LatencyTrackingDataSource extends HikariDataSource {
+    
+    private volatile LatencyStatistics statistics;
+    
+    @Override
+    public Connection getConnection() throws SQLException {
+        LatencyStatistics currentStatistics = getStatistics();
+        long acquireNanos = System.nanoTime();
+        currentStatistics.acquire();
+        Connection connection;
+        try {
+            connection = super.getConnection();
+        } catch (final SQLException | RuntimeException ex) {
+            currentStatistics.release(acquireNanos);
+            throw ex;
+        }
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Connection.class}, new TrackingConnectionHandler(connection, currentStatistics, acquireNanos));
+    }
+    
+    private LatencyStatistics getStatistics() {
+        if (null == statistics) {
+            statistics = LatencyStatisticsRegistry.getInstance().getOrCreate(getPoolName());
+        }
+        return statistics;
+    }
+    
+    private static final class TrackingConnectionHandler implements InvocationHandler {
+        
+        private final Connection connection;
+        
+        private final LatencyStatistics statistics;
+        
+        private final long acquireNanos;
+        
+        private final AtomicBoolean released = new AtomicBoolean();
+        
+        TrackingConnectionHandler(final Connection connection, final LatencyStatistics statistics, final long acquireNanos) {
+            this.connection = connection;
+            this.statistics = statistics;
+            this.acquireNanos = acquireNanos;
+        }
+        
+        @Override
+        public Object invoke(final Object proxy, final Method method, final Object[] args) throws Throwable {
+            if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                statistics.release(acquireNanos);
+            }
+            try {
+                return method.invoke(connection, args);
+            } catch (final InvocationTargetException ex) {
+                throw ex.getTargetException();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
+
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replication lag aware slave database load-balance algorithm.
+ *
+ * <p>Routes randomly among slaves whose replication lag is within `lag.max.seconds`, falls back to master only when all slaves are stale.
+ * Slave data sources must be {@link ReplicationLagProbedDataSource} to be probed, slaves without lag result are treated as stale.</p>
+ */
+public final class ReplicationLagMasterSlaveLoadBalanceAlgorithm implements MasterSlaveLoadBalanceAlgorithm {
+    
+    private static final String MAX_LAG_SECONDS_KEY = "lag.max.seconds";
+    
+    private static final String PROBE_INTERVAL_MILLISECONDS_KEY = "lag.probe.interval.milliseconds";
+    
+    private static final long DEFAULT_MAX_LAG_SECONDS = 5L;
+    
+    private static final long DEFAULT_PROBE_INTERVAL_MILLISECONDS = 1000L;
+    
+    private volatile Properties properties = new Properties();
+    
+    private volatile long maxLagSeconds = DEFAULT_MAX_LAG_SECONDS;
+    
+    @Override
+    public Properties getProperties() {
+        return properties;
+    }
+    
+    @Override
+    public void setProperties(final Properties properties) {
+        this.properties = properties;
+        maxLagSeconds = getLongProperty(properties, MAX_LAG_SECONDS_KEY, DEFAULT_MAX_LAG_SECONDS);
+        ReplicationLagProbe.getInstance().start(getLongProperty(properties, PROBE_INTERVAL_MILLISECONDS_KEY, DEFAULT_PROBE_INTERVAL_MILLISECONDS));
+    }
+    
+    private long getLongProperty(final Properties properties, final String key, final long defaultValue) {
+        Object value = properties.get(key);
+        return null == value ? defaultValue : Long.parseLong(value.toString().trim());
+    }
+    
+    @Override
+    public String getType() {
+        return "REPLICATION_LAG";
+    }
+    
+    @Override
+    public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
+        ReplicationLagProbe probe = ReplicationLagProbe.getInstance();
+        long now = System.nanoTime();
+        int freshCount = 0;
+        for (String each : slaveDataSourceNames) {
+            if (probe.isFresh(each, maxLagSeconds, now)) {
+                freshCount++;
+            }
+        }
+        if (0 == freshCount) {
+            return masterDataSourceName;
+        }
+        int selected = ThreadLocalRandom.current().nextInt(freshCount);
+        for (String each : slaveDataSourceNames) {
+            if (probe.isFresh(each, maxLagSeconds, now)) {
+                if (0 == selected) {
+                    return each;
+                }
+                selected--;
+            }
+        }
+        return masterDataSourceName;
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background probe of slave replication lag by `SHOW SLAVE STATUS`.
+ *
+ * <p>A slave whose replication is stopped, whose probe fails, or whose last probe is older than 3 intervals is reported as stale.</p>
+ */
+public final class ReplicationLagProbe {
+    
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicationLagProbe.class);
+    
+    private static final ReplicationLagProbe INSTANCE = new ReplicationLagProbe();
+    
+    private static final String SHOW_SLAVE_STATUS = "SHOW SLAVE STATUS";
+    
+    private static final String SECONDS_BEHIND_MASTER = "Seconds_Behind_Master";
+    
+    private static final long UNKNOWN_LAG = Long.MAX_VALUE;
+    
+    private final ConcurrentMap<String, DataSource> dataSources = new ConcurrentHashMap<>();
+    
+    private final ConcurrentMap<String, ProbeResult> probeResults = new ConcurrentHashMap<>();
+    
+    private ScheduledExecutorService executor;
+    
+    private volatile long intervalNanos;
+    
+    private ReplicationLagProbe() {
+    }
+    
+    /**
+     * Get instance.
+     *
+     * @return instance
+     */
+    public static ReplicationLagProbe getInstance() {
+        return INSTANCE;
+    }
+    
+    /**
+     * Register slave data source to probe.
+     *
+     * @param dataSourceName data source name
+     * @param dataSource data source
+     */
+    public void register(final String dataSourceName, final DataSource dataSource) {
+        dataSources.put(dataSourceName, dataSource);
+    }
+    
+    /**
+     * Start probing, or change interval if already started.
+     *
+     * @param intervalMilliseconds probe interval in milliseconds
+     */
+    public synchronized void start(final long intervalMilliseconds) {
+        if (null != executor) {
+            if (TimeUnit.MILLISECONDS.toNanos(intervalMilliseconds) == intervalNanos) {
+                return;
+            }
+            executor.shutdownNow();
+        }
+        intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMilliseconds);
+        executor = Executors.newSingleThreadScheduledExecutor(new ThreadFactory() {
+            
+            @Override
+            public Thread newThread(final Runnable runnable) {
+                Thread result = new Thread(runnable, "replication-lag-probe");
+                result.setDaemon(true);
+                return result;
+            }
+        });
+        executor.scheduleWithFixedDelay(new Runnable() {
+            
+            @Override
+            public void run() {
+                probeAll();
+            }
+        }, 0, intervalMilliseconds, TimeUnit.MILLISECONDS);
+    }
+    
+    private void probeAll() {
+        for (Entry<String, DataSource> entry : dataSources.entrySet()) {
+            long lagSeconds;
+            try {
+                lagSeconds = probe(entry.getValue());
+            } catch (final SQLException ex) {
+                LOG.warn("Probe replication lag of `{}` failure: {}", entry.getKey(), ex.getMessage());
+                lagSeconds = UNKNOWN_LAG;
+            }
+            probeResults.put(entry.getKey(), new ProbeResult(lagSeconds, System.nanoTime()));
+        }
+    }
+    
+    private long probe(final DataSource dataSource) throws SQLException {
+        try (
+                Connection connection = dataSource.getConnection();
+                Statement statement = connection.createStatement();
+                ResultSet resultSet = statement.executeQuery(SHOW_SLAVE_STATUS)) {
+            if (!resultSet.next()) {
+                return UNKNOWN_LAG;
+            }
+            long result = resultSet.getLong(SECONDS_BEHIND_MASTER);
+            return resultSet.wasNull() ? UNKNOWN_LAG : result;
+        }
+    }
+    
+    /**
+     * Judge whether slave is fresh enough to serve reads.
+     *
+     * @param dataSourceName data source name
+     * @param maxLagSeconds max acceptable lag in seconds
+     * @param nowNanos current nano time
+     * @return fresh or not, slaves never probed are not fresh
+     */
+    public boolean isFresh(final String dataSourceName, final long maxLagSeconds, final long nowNanos) {
+        ProbeResult probeResult = probeResults.get(dataSourceName);
+        return null != probeResult && probeResult.lagSeconds <= maxLagSeconds && nowNanos - probeResult.probeNanos <= 3 * intervalNanos;
+    }
+    
+    private static final class ProbeResult {
+        
+        private final long lagSeconds;
+        
+        private final long probeNanos;
+        
+        ProbeResult(final long lagSeconds, final long probeNanos) {
+            this.lagSeconds = lagSeconds;
+            this.probeNanos = probeNanos;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Check slave data sources are of the type which feeds the configured load-balance algorithm.
+ *
+ * <p>Profiles overriding slave data source type, e.g. `metrics` together with `master-slave-latency` or `master-slave-lag`,
+ * would otherwise leave {@link LatencyMasterSlaveLoadBalanceAlgorithm} or {@link ReplicationLagMasterSlaveLoadBalanceAlgorithm} without statistics silently,
+ * so startup fails instead.</p>
+ */
+@Component
+public final class SlaveDataSourceTypeChecker {
+    
+    private static final String MASTER_SLAVE_PREFIX = "spring.shardingsphere.masterslave.";
+    
+    private static final String DATA_SOURCE_PREFIX = "spring.shardingsphere.datasource.";
+    
+    @Autowired
+    public SlaveDataSourceTypeChecker(final Environment environment) {
+        String loadBalanceAlgorithmType = environment.getProperty(MASTER_SLAVE_PREFIX + "load-balance-algorithm-type");
+        String slaveDataSourceNames = environment.getProperty(MASTER_SLAVE_PREFIX + "slave-data-source-names");
+        if (null == loadBalanceAlgorithmType || null == slaveDataSourceNames) {
+            return;
+        }
+        Class<?> requiredType = getRequiredType(loadBalanceAlgorithmType.trim());
+        if (null == requiredType) {
+            return;
+        }
+        for (String each : slaveDataSourceNames.split(",")) {
+            String type = environment.getProperty(DATA_SOURCE_PREFIX + each.trim() + ".type");
+            if (!requiredType.getName().equals(null == type ? null : type.trim())) {
+                throw new IllegalStateException(String.format("Load-balance algorithm `%s` requires slave `%s` of type `%s`, but it is `%s`, profile `metrics` can not be activated together with it.",
+                        loadBalanceAlgorithmType, each.trim(), requiredType.getName(), type));
+            }
+        }
+    }
+    
+    private Class<?> getRequiredType(final String loadBalanceAlgorithmType) {
+        if ("LATENCY".equalsIgnoreCase(loadBalanceAlgorithmType)) {
+            return LatencyTrackingDataSource.class;
+        }
+        if ("REPLICATION_LAG".equalsIgnoreCase(loadBalanceAlgorithmType)) {
+            return ReplicationLagProbedDataSource.class;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.jdbc.poc.spi;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Immutable alias table built by Vose's alias method, selects weighted data source in O(1) without allocation.
+ */
+final class WeightAliasTable {
+    
+    private final String weights;
+    
+    private final String[] names;
+    
+    private final double[] probabilities;
+    
+    private final int[] aliases;
+    
+    WeightAliasTable(final List<String> dataSourceNames, final String weights) {
+        this.weights = weights;
+        int size = dataSourceNames.size();
+        names = dataSourceNames.toArray(new String[size]);
+        probabilities = new double[size];
+        aliases = new int[size];
+        double[] scaledWeights = parseWeights(weights, size);
+        Deque<Integer> small = new ArrayDeque<>(size);
+        Deque<Integer> large = new ArrayDeque<>(size);
+        for (int i = 0; i < size; i++) {
+            if (scaledWeights[i] < 1.0) {
+                small.push(i);
+            } else {
+                large.push(i);
+            }
+        }
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.pop();
+            int more = large.pop();
+            probabilities[less] = scaledWeights[less];
+            aliases[less] = more;
+            scaledWeights[more] = scaledWeights[more] + scaledWeights[less] - 1.0;
+            if (scaledWeights[more] < 1.0) {
+                small.push(more);
+            } else {
+                large.push(more);
+            }
+        }
+        while (!large.isEmpty()) {
+            probabilities[large.pop()] = 1.0;
+        }
+        while (!small.isEmpty()) {
+            probabilities[small.pop()] = 1.0;
+        }
+    }
+    
+    private static double[] parseWeights(final String weights, final int size) {
+        if (null == weights) {
+            throw new IllegalArgumentException("Weights can not be null.");
+        }
+        if (0 == size) {
+            throw new IllegalArgumentException("Slave data source names can not be empty.");
+        }
+        String[] segments = weights.split(",");
+        if (segments.length < size) {
+            throw new IllegalArgumentException(String.format("Weights `%s` does not cover all %s slave data sources.", weights, size));
+        }
+        double total = 0;
+        double[] result = new double[size];
+        for (int i = 0; i < size; i++) {
+            result[i] = Integer.parseInt(segments[i].trim());
+            if (result[i] < 0) {
+                throw new IllegalArgumentException(String.format("Weights `%s` can not be negative.", weights));
+            }
+            total += result[i];
+        }
+        if (0 == total) {
+            throw new IllegalArgumentException(String.format("Weights `%s` can not be all zero.", weights));
+        }
+        for (int i = 0; i < size; i++) {
+            result[i] = result[i] * size / total;
+        }
+        return result;
+    }
+    
+    /**
+     * Judge whether this table is built from the given slave data source names and weights.
+     *
+     * @param dataSourceNames slave data source names
+     * @param weights weights property value
+     * @return built from them or not
+     */
+    boolean isBuiltFrom(final List<String> dataSourceNames, final String weights) {
+        if (names.length != dataSourceNames.size() || !this.weights.equals(weights)) {
+            return false;
+        }
+        for (int i = 0; i < names.length; i++) {
+            if (!names[i].equals(dataSourceNames.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    /**
+     * Select data source name.
+     *
+     * @return data source name
+     */
+    String select() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int index = random.nextInt(names.length);
+        return random.nextDouble() < probabilities[index] ? names[index] : names[aliases[index]];
+    }
+}
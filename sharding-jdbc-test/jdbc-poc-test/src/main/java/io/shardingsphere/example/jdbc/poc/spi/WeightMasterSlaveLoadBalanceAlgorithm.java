@@ -19,15 +19,16 @@ package io.shardingsphere.example.jdbc.poc.spi;
 
 import org.apache.shardingsphere.spi.masterslave.MasterSlaveLoadBalanceAlgorithm;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Properties;
-import java.util.Random;
-import java.util.SortedMap;
-import java.util.TreeMap;
 
 /**
  * Weight slave database load-balance algorithm.
  *
+ * <p>Selection is done by an immutable alias table per master-slave data source, rebuilt when weights or slave data sources change.</p>
+ *
  * @author zhangyonglun
  */
 
@@ -35,9 +36,9 @@ public final class WeightMasterSlaveLoadBalanceAlgorithm implements MasterSlaveL
     
     private static final String WEIGHT_KEY = "weight.values";
     
-    private TreeMap<Integer, String> weightMap = new TreeMap<>();
+    private volatile Map<String, WeightAliasTable> aliasTables = new HashMap<>();
     
-    private Properties properties = new Properties();
+    private volatile Properties properties = new Properties();
     
     @Override
     public Properties getProperties() {
@@ -45,8 +46,9 @@ public final class WeightMasterSlaveLoadBalanceAlgorithm implements MasterSlaveL
     }
     
     @Override
-    public void setProperties(Properties properties) {
+    public void setProperties(final Properties properties) {
         this.properties = properties;
+        aliasTables = new HashMap<>();
     }
     
     @Override
@@ -56,15 +58,24 @@ public final class WeightMasterSlaveLoadBalanceAlgorithm implements MasterSlaveL
     
     @Override
     public String getDataSource(final String name, final String masterDataSourceName, final List<String> slaveDataSourceNames) {
-        if (weightMap.isEmpty()) {
-            String[] weightsString = properties.get(WEIGHT_KEY).toString().split(",");
-            int total = 0;
-            for (int i = 0; i < slaveDataSourceNames.size(); i++) {
-                total += Integer.parseInt(weightsString[i]);
-                weightMap.put(total, slaveDataSourceNames.get(i));
-            }
+        Object weightsValue = properties.get(WEIGHT_KEY);
+        String weights = null == weightsValue ? null : weightsValue.toString();
+        WeightAliasTable aliasTable = aliasTables.get(name);
+        if (null == aliasTable || !aliasTable.isBuiltFrom(slaveDataSourceNames, weights)) {
+            aliasTable = rebuildAliasTable(name, slaveDataSourceNames, weights);
+        }
+        return aliasTable.select();
+    }
+    
+    private synchronized WeightAliasTable rebuildAliasTable(final String name, final List<String> slaveDataSourceNames, final String weights) {
+        WeightAliasTable result = aliasTables.get(name);
+        if (null != result && result.isBuiltFrom(slaveDataSourceNames, weights)) {
+            return result;
         }
-        SortedMap<Integer, String> tailMap = weightMap.tailMap(new Random().nextInt(weightMap.lastKey()), false);
-        return weightMap.get(tailMap.firstKey());
+        result = new WeightAliasTable(slaveDataSourceNames, weights);
+        Map<String, WeightAliasTable> newAliasTables = new HashMap<>(aliasTables);
+        newAliasTables.put(name, result);
+        aliasTables = newAliasTables;
+        return result;
     }
 }
@@ -0,0 +1,51 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.shardingsphere.example.spring.boot.jpa.soak;
+
+import io.shardingsphere.example.repository.api.senario.SoakScenario;
+import io.shardingsphere.example.repository.api.service.CommonService;
+import io.shardingsphere.example.repository.api.soak.SoakOptions;
+import io.shardingsphere.example.repository.jpa.service.SpringEntityService;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.autoconfigure.transaction.jta.JtaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Soak JPA implementation on the sharding data source of active profile.
+ *
+ * <p>Data source metrics and Hikari pool MBeans are enabled by profile `metrics`, soak options come from `soak.*` system properties.
+ * Zookeeper of the active orchestration profile must be running.</p>
+ */
+@ComponentScan("io.shardingsphere.example.repository.jpa")
+@EntityScan(basePackages = "io.shardingsphere.example.repository.jpa.entity")
+@SpringBootApplication(exclude = JtaAutoConfiguration.class)
+public class SpringBootSoakMain {
+    
+    public static void main(final String[] args) {
+        try (ConfigurableApplicationContext applicationContext = new SpringApplicationBuilder(SpringBootSoakMain.class).profiles("metrics").run(args)) {
+            Map<String, CommonService> commonServices = Collections.<String, CommonService>singletonMap("jpa", applicationContext.getBean(SpringEntityService.class));
+            new SoakScenario(commonServices, SoakOptions.fromSystemProperties()).process();
+        }
+    }
+}